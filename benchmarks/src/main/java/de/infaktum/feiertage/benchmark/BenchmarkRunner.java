@@ -0,0 +1,52 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet die Benchmarks und schreibt die Ergebnisse als JSON, damit Releases miteinander verglichen werden
+ * können.
+ *
+ * <p>Alle JMH-Kommandozeilenoptionen werden durchgereicht, z.B. ein Filter auf einzelne Benchmarks.
+ * Die Ergebnisdatei ist <code>jmh-result.json</code>, sie kann mit <code>-rff</code> überschrieben werden.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions kommandozeile = new CommandLineOptions(args);
+        Options optionen = new OptionsBuilder()
+            .parent(kommandozeile)
+            .resultFormat(kommandozeile.getResultFormat().orElse(ResultFormatType.JSON))
+            .result(kommandozeile.getResult().orElse("jmh-result.json"))
+            .build();
+        new Runner(optionen).run();
+    }
+}
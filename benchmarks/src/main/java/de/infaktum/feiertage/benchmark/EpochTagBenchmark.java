@@ -0,0 +1,147 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Application;
+import de.infaktum.feiertage.model.Bundesland;
+import de.infaktum.feiertage.model.Feiertage;
+import de.infaktum.feiertage.model.FeiertageIndex;
+import de.infaktum.feiertage.model.Land;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Vergleicht die Abfrage über {@link LocalDate} und {@link Land} mit der primitiven Abfrage über Epochentag und
+ * Landesschlüssel.
+ *
+ * <p>Mit <code>-prof gc</code> gestartet zeigt <code>gc.alloc.rate.norm</code>, dass die primitiven Varianten
+ * keine Objekte anlegen:
+ *
+ * <code>java -jar benchmarks/target/benchmarks.jar EpochTagBenchmark -prof gc</code>
+ *
+ * <p>Die Varianten mit der Endung <code>Dienst</code> fragen die Bean aus dem Spring-Kontext des Services ab, mit
+ * und ohne Metriken (Parameter <code>metriken</code>), und zeigen so, dass die Messung die primitiven Abfragen nicht
+ * verteuert.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EpochTagBenchmark {
+
+    private static final int ANZAHL = 1024;
+
+    private final FeiertageIndex feiertage = new FeiertageIndex();
+    private final long[] tage = new long[ANZAHL];
+    private final int[] schluessel = new int[ANZAHL];
+    private final Land[] laender = new Land[ANZAHL];
+    private int index;
+
+    @Setup
+    public void setup() {
+        feiertage.init(2100);
+        Bundesland[] alle = Bundesland.values();
+        long start = LocalDate.of(1970, 1, 1).toEpochDay();
+        for (int i = 0; i < ANZAHL; i++) {
+            tage[i] = start + i * 47L;
+            laender[i] = alle[i % alle.length];
+            schluessel[i] = laender[i].schluessel();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dienst {
+
+        @Param({"true", "false"})
+        public boolean metriken;
+
+        ConfigurableApplicationContext context;
+        Feiertage feiertage;
+
+        @Setup(Level.Trial)
+        public void starte() {
+            context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("feiertage.backend=index", "feiertage.lazy=false", "feiertage.metriken=" + metriken,
+                    "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+            feiertage = context.getBean(Feiertage.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void beende() {
+            context.close();
+        }
+    }
+
+    private int naechster() {
+        return index = (index + 1) & (ANZAHL - 1);
+    }
+
+    @Benchmark
+    public boolean isFeiertagLocalDate() {
+        int i = naechster();
+        return feiertage.isFeiertag(LocalDate.ofEpochDay(tage[i]), laender[i]);
+    }
+
+    @Benchmark
+    public boolean isFeiertagEpochTag() {
+        int i = naechster();
+        return feiertage.isFeiertag(tage[i], schluessel[i]);
+    }
+
+    @Benchmark
+    public int feiertagsMaske() {
+        return feiertage.feiertagsMaske(tage[naechster()]);
+    }
+
+    @Benchmark
+    public boolean isFeiertagEpochTagDienst(Dienst dienst) {
+        int i = naechster();
+        return dienst.feiertage.isFeiertag(tage[i], schluessel[i]);
+    }
+
+    @Benchmark
+    public int feiertagsMaskeDienst(Dienst dienst) {
+        return dienst.feiertage.feiertagsMaske(tage[naechster()]);
+    }
+}
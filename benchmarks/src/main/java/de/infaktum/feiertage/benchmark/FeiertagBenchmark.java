@@ -0,0 +1,115 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Bundesland;
+import de.infaktum.feiertage.model.DatumsParser;
+import de.infaktum.feiertage.model.Feiertag;
+import de.infaktum.feiertage.model.Land;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Microbenchmarks für die Kalenderregeln ohne Spring-Kontext: Berechnung fester und beweglicher
+ * Feiertage, Prüfung der Länderzugehörigkeit, Auflösung von Länderkürzeln und das Parsen von Datumsangaben.
+ *
+ * <p>Die Eingaben laufen zyklisch über vorbereitete Felder, damit der JIT keine Konstanten falten kann.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FeiertagBenchmark {
+
+    private static final int ANZAHL = 1024;
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private final int[] jahre = new int[ANZAHL];
+    private final Land[] laender = new Land[ANZAHL];
+    private final String[] kuerzel = new String[ANZAHL];
+    private final String[] daten = new String[ANZAHL];
+    private int index;
+
+    @Setup
+    public void setup() {
+        Bundesland[] alle = Bundesland.values();
+        LocalDate start = LocalDate.of(1970, 1, 1);
+        for (int i = 0; i < ANZAHL; i++) {
+            jahre[i] = 1970 + (i * 7) % 130;
+            laender[i] = alle[i % alle.length];
+            String text = alle[i % alle.length].kuerzel();
+            kuerzel[i] = i % 2 == 0 ? text : text.toLowerCase(Locale.ROOT);
+            daten[i] = start.plusDays(i * 37L).format(formatter);
+        }
+    }
+
+    private int naechster() {
+        return index = (index + 1) & (ANZAHL - 1);
+    }
+
+    @Benchmark
+    public LocalDate festerFeiertag() {
+        return Feiertag.weihnachtstag1.datum(jahre[naechster()]);
+    }
+
+    @Benchmark
+    public LocalDate osterFeiertag() {
+        return Feiertag.pfingstmontag.datum(jahre[naechster()]);
+    }
+
+    @Benchmark
+    public boolean isFeiertagIn() {
+        return Feiertag.fronleichnam.isFeiertagIn(laender[naechster()], 2022);
+    }
+
+    @Benchmark
+    public Land landByKuerzel() {
+        return Land.getlandByKuerzel(kuerzel[naechster()]);
+    }
+
+    @Benchmark
+    public LocalDate datumParsen() {
+        return LocalDate.parse(daten[naechster()], formatter);
+    }
+
+    @Benchmark
+    public long datumParsenEpochTag() {
+        return DatumsParser.epochTag(daten[naechster()]);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Die Benchmarks aus {@link FeiertagBenchmark} mit so vielen Threads, wie der eingebettete Tomcat
+ * standardmäßig gleichzeitig bedient (<code>server.tomcat.threads.max</code> ist 200, auf den Testrechnern
+ * sind aber deutlich weniger Kerne vorhanden, daher 16 als realistische Sättigung).
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Threads(16)
+public class FeiertagBenchmarkParallel extends FeiertagBenchmark {
+}
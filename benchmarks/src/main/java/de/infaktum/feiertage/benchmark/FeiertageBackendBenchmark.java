@@ -0,0 +1,125 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Application;
+import de.infaktum.feiertage.model.Bundesland;
+import de.infaktum.feiertage.model.Feiertage;
+import de.infaktum.feiertage.model.FeiertagsDatum;
+import de.infaktum.feiertage.model.Land;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmarks für {@link Feiertage#getFeiertag(LocalDate, Land)} und
+ * {@link Feiertage#getFeiertage(LocalDate, LocalDate, Land)} gegen die konfigurierten Backends.
+ *
+ * <p>Der Spring-Kontext wird einmal pro Fork ohne Webserver gestartet; das Backend wird über den Parameter
+ * <code>backend</code> ausgewählt (<code>jpa</code> oder <code>index</code>).
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeiertageBackendBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Backend {
+
+        @Param({"jpa", "index"})
+        public String backend;
+
+        ConfigurableApplicationContext context;
+        Feiertage feiertage;
+
+        @Setup(Level.Trial)
+        public void starte() {
+            context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("feiertage.backend=" + backend, "feiertage.lazy=false",
+                    "feiertage.metriken=false", "spring.main.banner-mode=off",
+                    "logging.level.root=WARN")
+                .run();
+            feiertage = context.getBean(Feiertage.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void beende() {
+            context.close();
+        }
+    }
+
+    private static LocalDate zufallsDatum() {
+        return LocalDate.ofEpochDay(ThreadLocalRandom.current().nextLong(0, LocalDate.of(2100, 1, 1).toEpochDay()));
+    }
+
+    private static Land zufallsLand() {
+        Bundesland[] alle = Bundesland.values();
+        return alle[ThreadLocalRandom.current().nextInt(alle.length)];
+    }
+
+    @Benchmark
+    public FeiertagsDatum getFeiertag(Backend backend) {
+        return backend.feiertage.getFeiertag(zufallsDatum(), zufallsLand());
+    }
+
+    @Benchmark
+    public List<FeiertagsDatum> getFeiertageJahr(Backend backend) {
+        LocalDate von = zufallsDatum().withDayOfYear(1);
+        return backend.feiertage.getFeiertage(von, von.plusYears(1).minusDays(1), zufallsLand());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public FeiertagsDatum getFeiertagParallel(Backend backend) {
+        return backend.feiertage.getFeiertag(zufallsDatum(), zufallsLand());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public List<FeiertagsDatum> getFeiertageJahrParallel(Backend backend) {
+        LocalDate von = zufallsDatum().withDayOfYear(1);
+        return backend.feiertage.getFeiertage(von, von.plusYears(1).minusDays(1), zufallsLand());
+    }
+}
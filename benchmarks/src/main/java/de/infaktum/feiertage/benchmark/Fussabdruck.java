@@ -0,0 +1,73 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Application;
+import de.infaktum.feiertage.model.Bundesland;
+import de.infaktum.feiertage.model.Feiertage;
+import de.infaktum.feiertage.model.FeiertageIndex;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.util.Locale;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Misst Startzeit und Speicherbedarf einer frischen JVM bis zur ersten beantworteten Abfrage.
+ *
+ * <p>Mit dem Argument <code>kern</code> wird nur {@link FeiertageIndex} aus dem Kern-Modul verwendet, mit
+ * <code>service</code> der Spring-Kontext des Services ohne Webserver. Ausgegeben werden die Zeit seit dem Start der
+ * JVM, der belegte Heap nach einer Garbage Collection und die Anzahl geladener Klassen. Da Spring alles erst bei Bedarf
+ * lädt, genügt das Benchmark-Jar als Klassenpfad für beide Varianten:
+ *
+ * <code>java -cp benchmarks/target/benchmarks.jar de.infaktum.feiertage.benchmark.Fussabdruck kern</code>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public class Fussabdruck {
+
+    public static void main(String[] args) {
+        String variante = args.length > 0 ? args[0] : "kern";
+        Feiertage feiertage;
+        if (variante.equals("service")) {
+            feiertage = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("feiertage.lazy=true", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run(args)
+                .getBean(Feiertage.class);
+        } else {
+            feiertage = new FeiertageIndex(true);
+        }
+        boolean feiertag = feiertage.isFeiertag(LocalDate.of(2022, 1, 1), Bundesland.nrw);
+        long millis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        MemoryMXBean speicher = ManagementFactory.getMemoryMXBean();
+        speicher.gc();
+        long heap = speicher.getHeapMemoryUsage().getUsed();
+        int klassen = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+
+        System.out.printf(Locale.ROOT, "%s: erste Antwort (%b) nach %d ms, Heap %.1f MB, %d Klassen%n",
+            variante, feiertag, millis, heap / (1024.0 * 1024.0), klassen);
+        System.exit(0);
+    }
+}
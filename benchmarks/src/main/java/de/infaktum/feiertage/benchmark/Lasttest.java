@@ -0,0 +1,226 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Application;
+import de.infaktum.feiertage.model.Bundesland;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Last- und Latenztest der REST-Schnittstelle gegen eine eingebettete Instanz.
+ *
+ * <p>Die {@link Application} wird auf einem zufälligen lokalen Port gestartet und anschließend von vielen
+ * gleichzeitigen Clients über den JDK-{@link HttpClient} mit <code>/feiertag</code> und <code>/feiertage</code>
+ * abgefragt. Nach einer Aufwärmphase werden die Latenzen aller Anfragen aufgezeichnet und als p50, p99 und p999
+ * zusammen mit dem Durchsatz ausgegeben. Der Test braucht kein Netzwerk außer dem Loopback-Interface.
+ *
+ * <p>Konfiguration über System-Properties:
+ * <ul>
+ * <li><code>lasttest.clients</code> Anzahl gleichzeitiger Clients (Standard 64)</li>
+ * <li><code>lasttest.aufwaermen</code> Dauer der Aufwärmphase in Sekunden (Standard 10)</li>
+ * <li><code>lasttest.dauer</code> Dauer der Messung in Sekunden (Standard 30)</li>
+ * <li><code>lasttest.anteil.einzel</code> Anteil der Abfragen auf <code>/feiertag</code> (Standard 0.8)</li>
+ * <li><code>lasttest.jahre.von</code>, <code>lasttest.jahre.bis</code> Bereich der abgefragten Jahre
+ * (Standard 1970 bis 2100)</li>
+ * <li><code>lasttest.breite.max</code> Maximale Breite eines Zeitraums in Tagen (Standard 730)</li>
+ * <li><code>lasttest.backend</code> Das Backend des Services (Standard index)</li>
+ * <li><code>lasttest.threads</code> <code>plattform</code> für den Thread-Pool von Tomcat oder <code>virtuell</code>
+ * für virtuelle Threads (Standard plattform, siehe <code>VirtuelleThreads</code>, nur ab Java 21)</li>
+ * <li><code>lasttest.grenze.p99</code> Obergrenze für p99 in Millisekunden; bei Überschreitung oder
+ * fehlerhaften Antworten endet der Test mit Exit-Code 1</li>
+ * </ul>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public class Lasttest {
+
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String basis;
+    private final double anteilEinzel;
+    private final long erstesTag;
+    private final long letzterTag;
+    private final int breiteMax;
+
+    Lasttest(int port, double anteilEinzel, int vonJahr, int bisJahr, int breiteMax) {
+        this.basis = "http://localhost:" + port;
+        this.anteilEinzel = anteilEinzel;
+        this.erstesTag = LocalDate.of(vonJahr, 1, 1).toEpochDay();
+        this.letzterTag = LocalDate.of(bisJahr, 12, 31).toEpochDay();
+        this.breiteMax = breiteMax;
+    }
+
+    /**
+     * Die von einem Client aufgezeichneten Latenzen in Nanosekunden.
+     */
+    private static final class Messwerte {
+        long[] latenzen = new long[1 << 16];
+        int anzahl;
+        int fehler;
+
+        void add(long latenz) {
+            if (anzahl == latenzen.length) {
+                latenzen = Arrays.copyOf(latenzen, anzahl * 2);
+            }
+            latenzen[anzahl++] = latenz;
+        }
+    }
+
+    private URI naechsteAnfrage() {
+        ThreadLocalRandom zufall = ThreadLocalRandom.current();
+        Bundesland[] alle = Bundesland.values();
+        String land = alle[zufall.nextInt(alle.length)].kuerzel();
+        LocalDate datum = LocalDate.ofEpochDay(zufall.nextLong(erstesTag, letzterTag + 1));
+        if (zufall.nextDouble() < anteilEinzel) {
+            return URI.create(basis + "/feiertag?datum=" + datum.format(formatter) + "&land=" + land);
+        }
+        LocalDate bis = datum.plusDays(zufall.nextInt(breiteMax + 1));
+        return URI.create(basis + "/feiertage?von=" + datum.format(formatter) + "&bis=" + bis.format(formatter)
+            + "&land=" + land);
+    }
+
+    private void client(AtomicBoolean messen, AtomicBoolean laufen, Messwerte messwerte) {
+        while (laufen.get()) {
+            HttpRequest anfrage = HttpRequest.newBuilder(naechsteAnfrage()).GET().build();
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(anfrage, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long latenz = System.nanoTime() - start;
+            if (messen.get()) {
+                messwerte.add(latenz);
+                if (status != 200) {
+                    messwerte.fehler++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Führt den Lasttest durch.
+     *
+     * @param clients     Die Anzahl der Clients.
+     * @param aufwaermen  Die Aufwärmphase.
+     * @param dauer       Die Messdauer.
+     * @return Die Messwerte aller Clients.
+     * @throws InterruptedException Falls der Test unterbrochen wurde.
+     */
+    List<Messwerte> fuehreAus(int clients, Duration aufwaermen, Duration dauer) throws InterruptedException {
+        AtomicBoolean messen = new AtomicBoolean();
+        AtomicBoolean laufen = new AtomicBoolean(true);
+        List<Messwerte> ergebnisse = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Messwerte messwerte = new Messwerte();
+            ergebnisse.add(messwerte);
+            Thread thread = new Thread(() -> client(messen, laufen, messwerte), "lasttest-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        Thread.sleep(aufwaermen.toMillis());
+        messen.set(true);
+        Thread.sleep(dauer.toMillis());
+        messen.set(false);
+        laufen.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return ergebnisse;
+    }
+
+    private static double millis(long[] sortiert, double quantil) {
+        if (sortiert.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sortiert.length - 1, Math.ceil(quantil * sortiert.length) - 1);
+        return sortiert[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int clients = Integer.getInteger("lasttest.clients", 64);
+        Duration aufwaermen = Duration.ofSeconds(Integer.getInteger("lasttest.aufwaermen", 10));
+        Duration dauer = Duration.ofSeconds(Integer.getInteger("lasttest.dauer", 30));
+        double anteilEinzel = Double.parseDouble(System.getProperty("lasttest.anteil.einzel", "0.8"));
+        int vonJahr = Integer.getInteger("lasttest.jahre.von", 1970);
+        int bisJahr = Integer.getInteger("lasttest.jahre.bis", 2100);
+        int breiteMax = Integer.getInteger("lasttest.breite.max", 730);
+        String backend = System.getProperty("lasttest.backend", "index");
+        String threads = System.getProperty("lasttest.threads", "plattform");
+        String grenzeP99 = System.getProperty("lasttest.grenze.p99");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+            .properties("server.port=0", "feiertage.backend=" + backend,
+                "spring.threads.virtual.enabled=" + threads.equals("virtuell"), "spring.main.banner-mode=off",
+                "logging.level.root=WARN")
+            .run(args);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        List<Messwerte> ergebnisse;
+        try {
+            ergebnisse = new Lasttest(port, anteilEinzel, vonJahr, bisJahr, breiteMax)
+                .fuehreAus(clients, aufwaermen, dauer);
+        } finally {
+            context.close();
+        }
+
+        int anzahl = ergebnisse.stream().mapToInt(m -> m.anzahl).sum();
+        int fehler = ergebnisse.stream().mapToInt(m -> m.fehler).sum();
+        long[] latenzen = new long[anzahl];
+        int position = 0;
+        for (Messwerte messwerte : ergebnisse) {
+            System.arraycopy(messwerte.latenzen, 0, latenzen, position, messwerte.anzahl);
+            position += messwerte.anzahl;
+        }
+        Arrays.sort(latenzen);
+
+        double p99 = millis(latenzen, 0.99);
+        System.out.printf(Locale.ROOT, "Backend %s, Threads %s, Java %s, %d Clients, %d s Messung%n", backend, threads,
+            Runtime.version().feature(), clients, dauer.toSeconds());
+        System.out.printf(Locale.ROOT, "Anfragen: %d, Fehler: %d, Durchsatz: %.1f/s%n",
+            anzahl, fehler, anzahl / (double) dauer.toSeconds());
+        System.out.printf(Locale.ROOT, "Latenz p50: %.3f ms, p99: %.3f ms, p999: %.3f ms, max: %.3f ms%n",
+            millis(latenzen, 0.5), p99, millis(latenzen, 0.999), millis(latenzen, 1.0));
+
+        if (fehler > 0 || (grenzeP99 != null && p99 > Double.parseDouble(grenzeP99))) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.benchmark;
+
+import de.infaktum.feiertage.model.Application;
+import de.infaktum.feiertage.model.Bundesland;
+import de.infaktum.feiertage.model.Feiertage;
+import de.infaktum.feiertage.model.FeiertageIndex;
+import de.infaktum.feiertage.model.FeiertageMapped;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Misst die Zeit bis zur ersten Antwort in einer frischen JVM: mit dem Kern-Modul allein, mit der eingeblendeten
+ * Tabelle aus <code>feiertage-core/target/feiertage.bin</code> (System-Property <code>feiertage.tabelle</code>) und
+ * mit dem vollständigen Spring-Kontext des Services (ohne Webserver).
+ *
+ * <p>Jede Messung läuft in einem eigenen Fork ohne Aufwärmen, sodass Klassenladen und JIT mitgemessen werden.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartBenchmark {
+
+    private static final LocalDate NEUJAHR = LocalDate.of(2022, 1, 1);
+    private static final String TABELLE = "feiertage-core/target/feiertage.bin";
+
+    @Benchmark
+    public boolean kern() {
+        Feiertage feiertage = new FeiertageIndex(true);
+        return feiertage.isFeiertag(NEUJAHR, Bundesland.nrw);
+    }
+
+    @Benchmark
+    public boolean tabelle() throws IOException {
+        Feiertage feiertage = new FeiertageMapped(Path.of(System.getProperty("feiertage.tabelle", TABELLE)));
+        return feiertage.isFeiertag(NEUJAHR, Bundesland.nrw);
+    }
+
+    @Benchmark
+    public boolean service() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties("feiertage.lazy=true", "spring.main.banner-mode=off", "logging.level.root=WARN")
+            .run()) {
+            return context.getBean(Feiertage.class).isFeiertag(NEUJAHR, Bundesland.nrw);
+        }
+    }
+}
@@ -86,8 +86,16 @@ public enum Bundesland implements Land {
         this.schluessel = schluessel;
         this.kuerzel = kuerzel;
         this.bezeichnung = bezeichnung;
-        landSchluessel.put(schluessel, this);
-        landKuerzel.put(kuerzel, this);
+    }
+
+    /**
+     * Liefert das Bit des Bundeslandes in Bitmasken von Bundesländern: Bit 0 für Schlüssel 1 (Schleswig-Holstein) bis
+     * Bit 15 für Schlüssel 16 (Thüringen).
+     *
+     * @return Das Bit des Bundeslandes.
+     */
+    public int bit() {
+        return 1 << (schluessel - 1);
     }
 
     /**
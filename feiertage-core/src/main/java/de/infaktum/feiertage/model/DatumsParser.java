@@ -0,0 +1,133 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+
+/**
+ * Parser für Datumsangaben der Form <code>dd.MM.yyyy</code> und <code>yyyy-MM-dd</code> (ISO).
+ *
+ * <p>Die Ziffern werden direkt in einen Epochentag umgerechnet, ohne Zwischenobjekte wie bei
+ * {@link java.time.format.DateTimeFormatter}. Ungültige Eingaben, auch nicht existierende Tage wie der 31.02.,
+ * führen zu einer {@link UngueltigesDatumException}.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public final class DatumsParser {
+
+    /**
+     * Anzahl der Tage vom 01.01.0000 bis zum 01.01.1970 im proleptischen gregorianischen Kalender.
+     */
+    private static final long TAGE_BIS_1970 = 719_528L;
+
+    private DatumsParser() {
+    }
+
+    /**
+     * Liefert das Datum zu einer Datumsangabe.
+     *
+     * @param text Das Datum als <code>dd.MM.yyyy</code> oder <code>yyyy-MM-dd</code>.
+     * @return Das Datum.
+     * @throws UngueltigesDatumException Falls der Text kein gültiges Datum ist.
+     */
+    public static LocalDate datum(final CharSequence text) {
+        return LocalDate.ofEpochDay(epochTag(text));
+    }
+
+    /**
+     * Liefert den Epochentag (Tage seit dem 01.01.1970) zu einer Datumsangabe.
+     *
+     * @param text Das Datum als <code>dd.MM.yyyy</code> oder <code>yyyy-MM-dd</code>.
+     * @return Der Epochentag.
+     * @throws UngueltigesDatumException Falls der Text kein gültiges Datum ist.
+     */
+    public static long epochTag(final CharSequence text) {
+        if (text == null || text.length() != 10) {
+            throw new UngueltigesDatumException(text);
+        }
+        int jahr;
+        int monat;
+        int tag;
+        if (text.charAt(2) == '.' && text.charAt(5) == '.') {
+            tag = ziffern(text, 0, 2);
+            monat = ziffern(text, 3, 5);
+            jahr = ziffern(text, 6, 10);
+        } else if (text.charAt(4) == '-' && text.charAt(7) == '-') {
+            jahr = ziffern(text, 0, 4);
+            monat = ziffern(text, 5, 7);
+            tag = ziffern(text, 8, 10);
+        } else {
+            throw new UngueltigesDatumException(text);
+        }
+        if (jahr < 0 || monat < 1 || monat > 12 || tag < 1 || tag > laengeMonat(jahr, monat)) {
+            throw new UngueltigesDatumException(text);
+        }
+        return epochTag(jahr, monat, tag);
+    }
+
+    /**
+     * Rechnet ein Datum in den Epochentag um, wie {@link LocalDate#toEpochDay()}.
+     *
+     * @param jahr  Das Jahr, nicht negativ.
+     * @param monat Der Monat, 1 bis 12.
+     * @param tag   Der Tag im Monat.
+     * @return Der Epochentag.
+     */
+    static long epochTag(final int jahr, final int monat, final int tag) {
+        long tage = 365L * jahr + (jahr + 3) / 4 - (jahr + 99) / 100 + (jahr + 399) / 400;
+        tage += (367 * monat - 362) / 12 + tag - 1;
+        if (monat > 2) {
+            tage -= isSchaltjahr(jahr) ? 1 : 2;
+        }
+        return tage - TAGE_BIS_1970;
+    }
+
+    private static boolean isSchaltjahr(final int jahr) {
+        return (jahr & 3) == 0 && (jahr % 100 != 0 || jahr % 400 == 0);
+    }
+
+    private static int laengeMonat(final int jahr, final int monat) {
+        return switch (monat) {
+            case 2 -> isSchaltjahr(jahr) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Liest eine Folge von Dezimalziffern.
+     *
+     * @return Der Wert der Ziffern, oder -1 falls ein Zeichen keine Ziffer ist.
+     */
+    private static int ziffern(final CharSequence text, final int von, final int bis) {
+        int wert = 0;
+        for (int i = von; i < bis; i++) {
+            int ziffer = text.charAt(i) - '0';
+            if (ziffer < 0 || ziffer > 9) {
+                return -1;
+            }
+            wert = wert * 10 + ziffer;
+        }
+        return wert;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static de.infaktum.feiertage.model.Bundesland.baden_wuerttemberg;
+import static de.infaktum.feiertage.model.Bundesland.bayern;
+import static de.infaktum.feiertage.model.Bundesland.berlin;
+import static de.infaktum.feiertage.model.Bundesland.brandenburg;
+import static de.infaktum.feiertage.model.Bundesland.bremen;
+import static de.infaktum.feiertage.model.Bundesland.hamburg;
+import static de.infaktum.feiertage.model.Bundesland.hessen;
+import static de.infaktum.feiertage.model.Bundesland.mecklenburg_vorpommern;
+import static de.infaktum.feiertage.model.Bundesland.niedersachsen;
+import static de.infaktum.feiertage.model.Bundesland.nrw;
+import static de.infaktum.feiertage.model.Bundesland.rheinland_pfalz;
+import static de.infaktum.feiertage.model.Bundesland.saarland;
+import static de.infaktum.feiertage.model.Bundesland.sachsen;
+import static de.infaktum.feiertage.model.Bundesland.sachsen_anhalt;
+import static de.infaktum.feiertage.model.Bundesland.schleswig_holstein;
+import static de.infaktum.feiertage.model.Bundesland.thueringen;
+import static de.infaktum.feiertage.model.Gueltigkeit.ab;
+import static de.infaktum.feiertage.model.Gueltigkeit.bis;
+import static de.infaktum.feiertage.model.Gueltigkeit.immer;
+import static de.infaktum.feiertage.model.Gueltigkeit.nur;
+import static java.time.Month.AUGUST;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.MARCH;
+import static java.time.Month.MAY;
+import static java.time.Month.NOVEMBER;
+import static java.time.Month.OCTOBER;
+import static java.time.Month.SEPTEMBER;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+
+/**
+ * Die gesetzlichen deutschen Feiertage.
+ *
+ * <p>Die Klasse Feiertag enthält neben dem Namen des Feiertags auch die Bundesländer, in der er gültig ist.
+ * Da viele Feiertage beweglich sind, wird das Datum nicht vorgehalten, sondern erst in der Klasse @FeiertagsDatum.
+ * </p>
+ *
+ * <p>Die Länder hängen vom Jahr ab: Jeder Feiertag hat eine oder mehrere {@link Gueltigkeit}en, etwa der
+ * Internationale Frauentag in Berlin ab 2019 und in Mecklenburg-Vorpommern ab 2023 oder der Buß- und Bettag bis 1994
+ * bundesweit und danach nur in Sachsen. Beim Laden werden sie in eine Tabelle der Bitmasken je Jahr übersetzt, sodass
+ * {@link #maske(int)} und {@link #isFeiertagIn(Land, int)} ein einziger Array-Zugriff sind. Vor 1990 gelten die
+ * Regeln der alten Bundesrepublik auch für die östlichen Länder; der 17. Juni als Tag der deutschen Einheit bis 1990
+ * ist nicht enthalten.
+ * </p>
+ *
+ * <p>Jeder Feiertag kann auch sein Datum in einem gegebenen Jahr berechnen.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+
+
+public enum Feiertag {
+
+    neujahr("Neujahr", x -> LocalDate.of(x, JANUARY, 1), immer(Bundesland.values())),
+    allerheiligen("Allerheiligen", x -> LocalDate.of(x, NOVEMBER, 1),
+        immer(baden_wuerttemberg, bayern, nrw, rheinland_pfalz, saarland)),
+    frauentag("Internationaler Frauentag", x -> LocalDate.of(x, MARCH, 8), ab(2019, berlin),
+        ab(2023, mecklenburg_vorpommern)),
+    weltkindertag("Weltkindertag", x -> LocalDate.of(x, SEPTEMBER, 20), ab(2019, thueringen)),
+    maifeiertag("Tag der Arbeit", x -> LocalDate.of(x, MAY, 1), immer(Bundesland.values())),
+    maria_himmelfahrt("Maria Himmelfahrt", x -> LocalDate.of(x, AUGUST, 15), immer(saarland)),
+    dreikoenigstag("Heilige drei Könige", x -> LocalDate.of(x, JANUARY, 6),
+        immer(bayern, baden_wuerttemberg)),
+    nationalfeiertag("Tag der deutschen Einheit", x -> LocalDate.of(x, OCTOBER, 3),
+        ab(1990, Bundesland.values())),
+    reformationstag("Reformationstag", x -> LocalDate.of(x, OCTOBER, 31),
+        ab(1990, brandenburg, mecklenburg_vorpommern, sachsen, sachsen_anhalt, thueringen),
+        ab(2018, bremen, hamburg, niedersachsen, schleswig_holstein),
+        nur(2017, Bundesland.values())),
+    heiligabend("Heiligabend", x -> LocalDate.of(x, DECEMBER, 24),
+        immer(Bundesland.values())),
+    weihnachtstag1("1. Weihnachtstag", x -> LocalDate.of(x, DECEMBER, 25),
+        immer(Bundesland.values())),
+    weihnachtstag2("2. Weihnachtstag", x -> LocalDate.of(x, DECEMBER, 26),
+        immer(Bundesland.values())),
+    silvester("Silvester", x -> LocalDate.of(x, DECEMBER, 31),
+        immer(Bundesland.values())),
+    //    rosenmontag("Rosenmontag", x -> ostern(x, -29), immer(Bundesland.nrw)),
+    karfreitag("Karfreitag", x -> ostern(x, -2), immer(Bundesland.values())),
+    //    ostersonntag("Ostersonntag", x -> ostern(x, 0), immer()),
+    ostermontag("Ostermontag", x -> ostern(x, 1), immer(Bundesland.values())),
+    christi_himmelfahrt("Christi Himmelfahrt", x -> ostern(x, 39), immer(Bundesland.values())),
+    fronleichnam("Fronleichnam", x -> ostern(x, 60), immer(baden_wuerttemberg, bayern,
+        hessen, nrw, rheinland_pfalz, saarland)),
+    //    pfingstsonntag("Pfingstsonntag", x -> ostern(x, 49), immer(Bundesland.values())),
+    pfingstmontag("Pfingstmontag", x -> ostern(x, 50), immer(Bundesland.values())),
+    buss_und_bettag("Buß- und Bettag", Feiertag::bussUndBettag, immer(sachsen), bis(1994, Bundesland.values()));
+
+    /**
+     * Die Version der Feiertagsregeln. Sie muss erhöht werden, sobald sich Namen, Daten oder Länder eines Feiertags
+     * ändern, denn sie ist Teil aller zwischengespeicherten Antworten.
+     */
+    public static final int REGELVERSION = 3;
+
+    /**
+     * Das Jahr, für das die veralteten Methoden ohne Jahr antworten. Die Länderlisten vor der Einführung der
+     * Gültigkeiten entsprachen dem Stand von 2022.
+     */
+    public static final int BEZUGSJAHR = 2022;
+
+    private final String bezeichnung;
+    private final List<Gueltigkeit> gueltigkeiten;
+    private final IntFunction<LocalDate> datum;
+    /**
+     * Das Jahr, für das <code>masken[0]</code> gilt. Davor gilt <code>masken[0]</code>, danach der letzte Eintrag.
+     */
+    private final int basisJahr;
+    private final int[] masken;
+
+    /**
+     * Erzeugt eine neue Fnstanz. Die Gültigkeiten werden in eine Tabelle der Bitmasken je Jahr übersetzt, die nur
+     * die Jahre umfasst, in denen sich die Länder ändern; davor und danach bleibt die Maske gleich.
+     *
+     * @param bezeichnung   Der Name des Feiertags
+     * @param datum         Die Berechnung des Datums in einem Jahr.
+     * @param gueltigkeiten Die Gültigkeiten in den Bundesländern.
+     */
+    Feiertag(final String bezeichnung, IntFunction<LocalDate> datum, final Gueltigkeit... gueltigkeiten) {
+        this.bezeichnung = bezeichnung;
+        this.datum = datum;
+        this.gueltigkeiten = List.of(gueltigkeiten);
+        int erstesJahr = Integer.MAX_VALUE;
+        int letztesJahr = Integer.MIN_VALUE;
+        for (Gueltigkeit gueltigkeit : gueltigkeiten) {
+            if (gueltigkeit.vonJahr() != Integer.MIN_VALUE) {
+                erstesJahr = Math.min(erstesJahr, gueltigkeit.vonJahr() - 1);
+                letztesJahr = Math.max(letztesJahr, gueltigkeit.vonJahr());
+            }
+            if (gueltigkeit.bisJahr() != Integer.MAX_VALUE) {
+                erstesJahr = Math.min(erstesJahr, gueltigkeit.bisJahr());
+                letztesJahr = Math.max(letztesJahr, gueltigkeit.bisJahr() + 1);
+            }
+        }
+        if (erstesJahr > letztesJahr) {
+            erstesJahr = 0;
+            letztesJahr = 0;
+        }
+        this.basisJahr = erstesJahr;
+        this.masken = new int[letztesJahr - erstesJahr + 1];
+        for (int jahr = erstesJahr; jahr <= letztesJahr; jahr++) {
+            for (Gueltigkeit gueltigkeit : gueltigkeiten) {
+                if (gueltigkeit.umfasst(jahr)) {
+                    masken[jahr - erstesJahr] |= gueltigkeit.maske();
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert das Datum eines beweglichen Feiertags, der vom Ostersonntag abhängt.
+     *
+     * @param jahr   Das Jahr.
+     * @param offset Der Abstand zum Ostersonntag in Tagen. Für Ostersonntag ist offset = 0.
+     *
+     * @return Das Datum.
+     */
+
+    private static LocalDate ostern(final int jahr, final int offset) {
+        return LocalDate.ofEpochDay(Ostern.epochTag(jahr) + offset);
+    }
+
+    /**
+     * Liefert das Datum des Buß- und Bettags (Mittwoch vor dem 1. Advent) im gegebenen Jahr.
+     *
+     * @param jahr Das Jahr, für das die Feiertage berechnet werden sollen
+     *
+     * @return Das Datum des Buß- und Bettags.
+     */
+
+    private static LocalDate bussUndBettag(final int jahr) {
+        LocalDate advent4 = LocalDate.of(jahr, DECEMBER, 25).with(TemporalAdjusters.previous(DayOfWeek.SUNDAY));
+        LocalDate advent1 = advent4.minusWeeks(4);
+        return advent1.with(TemporalAdjusters.previous(DayOfWeek.WEDNESDAY));
+    }
+
+    /**
+     * Liefert die Bezeichnung des Feiertags.
+     *
+     * @return Der Name des Feiertags.
+     */
+    public String bezeichnung() {
+        return bezeichnung;
+    }
+
+    /**
+     * Liefert das Datum des Feiertags im gegeben Jahr..
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Das Datum des Feiertags im Jahr.
+     */
+    public LocalDate datum(final int jahr) {
+        return datum.apply(jahr);
+    }
+
+    /**
+     * Liefert die Gültigkeiten des Feiertags.
+     *
+     * @return Die Gültigkeiten.
+     */
+    public List<Gueltigkeit> gueltigkeiten() {
+        return gueltigkeiten;
+    }
+
+    /**
+     * Liefert die Länder, in denen der Feiertag in einem Jahr gültig ist.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Die Länder in der Reihenfolge ihrer Schlüssel.
+     */
+    public List<Bundesland> laender(final int jahr) {
+        int maske = maske(jahr);
+        return Arrays.stream(Bundesland.values()).filter(land -> (maske & land.bit()) != 0).toList();
+    }
+
+    /**
+     * Liefert die Länder, in denen der Feiertag im {@link #BEZUGSJAHR} gültig ist.
+     *
+     * @return Die Länder in der Reihenfolge ihrer Schlüssel.
+     *
+     * @deprecated Die Länder hängen vom Jahr ab, {@link #laender(int)} verwenden.
+     *     Die Methode antwortet unabhängig vom laufenden Jahr immer für das {@link #BEZUGSJAHR}.
+     */
+    @Deprecated
+    public List<Bundesland> laender() {
+        return laender(BEZUGSJAHR);
+    }
+
+    /**
+     * Liefert die Bitmaske der Bundesländer, in denen der Feiertag in einem Jahr gültig ist (siehe
+     * {@link Bundesland#bit()}). Dies ist ein Zugriff auf die beim Laden berechnete Tabelle.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Die Bitmaske.
+     */
+    public int maske(final int jahr) {
+        return masken[Math.min(Math.max(jahr - basisJahr, 0), masken.length - 1)];
+    }
+
+    /**
+     * Liefert die Bitmaske der Bundesländer, in denen der Feiertag im {@link #BEZUGSJAHR} gültig ist.
+     *
+     * @return Die Bitmaske.
+     *
+     * @deprecated Die Länder hängen vom Jahr ab, {@link #maske(int)} verwenden.
+     *     Die Methode antwortet unabhängig vom laufenden Jahr immer für das {@link #BEZUGSJAHR}.
+     */
+    @Deprecated
+    public int maske() {
+        return maske(BEZUGSJAHR);
+    }
+
+    /**
+     * Überprüft, ob der Feiertag in einem Jahr in einem Bundesland gültig ist. Andere Länder haben keine deutschen
+     * Feiertage.
+     *
+     * @param land Das Land
+     * @param jahr Das Jahr.
+     *
+     * @return true, wenn der Feiertag im Land gültig ist.
+     */
+    public boolean isFeiertagIn(final Land land, final int jahr) {
+        return land instanceof Bundesland bundesland && (maske(jahr) & bundesland.bit()) != 0;
+    }
+
+    /**
+     * Überprüft, ob der Feiertag im {@link #BEZUGSJAHR} in einem Bundesland gültig ist.
+     *
+     * @param land Das Land
+     *
+     * @return true, wenn der Feiertag im Land gültig ist.
+     *
+     * @deprecated Die Länder hängen vom Jahr ab, {@link #isFeiertagIn(Land, int)} verwenden.
+     *     Die Methode antwortet unabhängig vom laufenden Jahr immer für das {@link #BEZUGSJAHR}.
+     */
+    @Deprecated
+    public boolean isFeiertagIn(final Land land) {
+        return isFeiertagIn(land, BEZUGSJAHR);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Feiertage stellt alle Funktionen zur Überprüfung von Zeitangaben auf Feiertage bereit.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+
+public interface Feiertage {
+    /**
+     * Das erste unterstützte Jahr, das erste vollständige Jahr des gregorianischen Kalenders.
+     */
+    int ERSTES_JAHR = 1583;
+
+    /**
+     * Das letzte unterstützte Jahr.
+     */
+    int LETZTES_JAHR = 9999;
+
+    /**
+     * Initialisiert das System ab Jahr 1970 bis zu einem gegebenen Jahr.
+     *
+     * @param endJahr Das letzte Jahr.
+     */
+    void init(final int endJahr);
+
+    /**
+     * Überprüft, ob ein gegebener Tag ein Feiertag ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land
+     * @return true, falls es sich um einen Feiertag handelt.
+     */
+    boolean isFeiertag(final LocalDate datum, final Land land);
+
+    /**
+     * Findet einen Feiertag durch das Datum.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     * @return Das gefundene Objekt.
+     * @throws UngueltigesDatumException Falls das Datum nicht gelesen werden kann.
+     */
+    FeiertagsDatum getFeiertag(final String datum, final Land land);
+
+    /**
+     * Findet einen Feiertag durch das Datum.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Bundesland
+     * @return Das gefundene Objekt.
+     */
+    FeiertagsDatum getFeiertag(final LocalDate datum, final Land land);
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land
+     * @return Die Liste gefundener Objekte.
+     */
+
+    List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land);
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Bundesland
+     * @return Die Liste gefundener Objekte.
+     * @throws UngueltigesDatumException Falls ein Datum nicht gelesen werden kann.
+     */
+
+    List<FeiertagsDatum> getFeiertage(final String von, final String bis, final Land land);
+
+    /**
+     * Findet alle Feiertage an einem Tag. Anders als {@link #getFeiertag(LocalDate, Land)} werden auch
+     * zusammenfallende Feiertage geliefert, etwa Christi Himmelfahrt und der Tag der Arbeit am 01.05.2008.
+     *
+     * <p>Die Standard-Implementierung fragt den Zeitraum von einem Tag ab.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     * @return Die Feiertage des Tags in der Reihenfolge von {@link Feiertag}, leer wenn der Tag kein Feiertag ist.
+     */
+    default List<FeiertagsDatum> getFeiertageAm(final LocalDate datum, final Land land) {
+        return getFeiertage(datum, datum, land);
+    }
+
+    /**
+     * Überprüft, ob ein Tag ein Feiertag ist. Das Datum wird als Epochentag (Tage seit dem 01.01.1970), das Land
+     * über seinen Schlüssel angegeben, sodass Aufrufer ohne {@link LocalDate} und {@link Land} auskommen.
+     *
+     * <p>Die Standard-Implementierung löst beides auf und ruft {@link #isFeiertag(LocalDate, Land)} auf.
+     * Implementierungen mit vorberechneten Tabellen überschreiben sie ohne Allokation.
+     *
+     * @param epochTag       Der Tag als Epochentag.
+     * @param landSchluessel Der Schlüssel des Landes.
+     * @return true, falls es sich um einen Feiertag handelt; false auch für unbekannte Länder.
+     */
+    default boolean isFeiertag(final long epochTag, final int landSchluessel) {
+        Land land = Land.getLandBySchluessel(landSchluessel);
+        return land != null && isFeiertag(LocalDate.ofEpochDay(epochTag), land);
+    }
+
+    /**
+     * Liefert die Bitmaske der Länder, in denen ein Tag ein Feiertag ist. Das Land mit Schlüssel <code>n</code>
+     * (1 bis 16) hat das Bit <code>1 &lt;&lt; (n - 1)</code>.
+     *
+     * <p>Die Standard-Implementierung fragt jedes Land einzeln ab. Implementierungen mit vorberechneten Tabellen
+     * überschreiben sie ohne Allokation.
+     *
+     * @param epochTag Der Tag als Epochentag.
+     * @return Die Bitmaske, 0 wenn der Tag nirgends ein Feiertag ist.
+     */
+    default int feiertagsMaske(final long epochTag) {
+        LocalDate datum = LocalDate.ofEpochDay(epochTag);
+        int maske = 0;
+        for (Land land : Land.getAll()) {
+            int schluessel = land.schluessel();
+            if (schluessel >= 1 && schluessel <= 16 && isFeiertag(datum, land)) {
+                maske |= 1 << (schluessel - 1);
+            }
+        }
+        return maske;
+    }
+
+    /**
+     * Gibt an, ob die Abfragen den aufrufenden Thread blockieren, etwa weil sie eine Datenbank abfragen. Reaktive
+     * Aufrufer lagern solche Abfragen auf eigene Threads aus, statt sie direkt auszuführen.
+     *
+     * @return true, falls die Abfragen blockieren. Die Standard-Implementierung liefert false.
+     */
+    default boolean isBlockierend() {
+        return false;
+    }
+}
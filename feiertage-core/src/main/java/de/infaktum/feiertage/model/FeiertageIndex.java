@@ -0,0 +1,250 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.lang.System.Logger.Level;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementierung, die alle Feiertage im Speicher vorhält.
+ *
+ * <p>Für jedes Jahr wird ein {@link FeiertagsJahr} berechnet, das für jeden Tag eine Bitmaske der Bundesländer mit
+ * Feiertag enthält. Abfragen kommen damit ohne Datenbank aus; {@link #isFeiertag} ist ein Array-Zugriff ohne
+ * Allokation.
+ * </p>
+ *
+ * <p>Ein Jahr wird spätestens bei der ersten Abfrage berechnet und danach wiederverwendet, auch wenn mehrere Threads
+ * gleichzeitig darauf zugreifen. Mit {@link #FeiertageIndex(boolean) lazy} entfällt die Vorberechnung in
+ * {@link #init} ganz, sodass die Instanz sofort bereit ist.
+ * </p>
+ *
+ * <p>Die Klasse braucht außer dem JDK keine Bibliotheken und kann direkt eingebettet werden. Im REST-Service ist sie
+ * das Standard-Backend; mit <code>feiertage.backend=jpa</code> wird dort stattdessen die Datenbank verwendet.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public class FeiertageIndex implements Feiertage {
+    /**
+     * Das erste Jahr, das bei der Initialisierung vorberechnet wird.
+     */
+    public static final int START_JAHR = 1970;
+    private static final System.Logger log = System.getLogger(FeiertageIndex.class.getName());
+    private static final long ERSTER_TAG = DatumsParser.epochTag(ERSTES_JAHR, 1, 1);
+    private static final long LETZTER_TAG = DatumsParser.epochTag(LETZTES_JAHR, 12, 31);
+
+    private final AtomicReferenceArray<FeiertagsJahr> jahre =
+        new AtomicReferenceArray<>(LETZTES_JAHR - ERSTES_JAHR + 1);
+
+    private final boolean lazy;
+
+    /**
+     * Erzeugt eine Instanz, die in {@link #init} alle Jahre ab 1970 vorberechnet.
+     */
+    public FeiertageIndex() {
+        this(false);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param lazy true, wenn jedes Jahr erst bei der ersten Abfrage berechnet werden soll.
+     */
+    public FeiertageIndex(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Initialisiert das System. Für alle Jahre ab 1970 bis zum gegebenen Jahr werden die Feiertage berechnet, es sei
+     * denn, die Jahre sollen erst bei Bedarf berechnet werden.
+     *
+     * @param endJahr Das letzte Jahr.
+     */
+    @Override
+    public void init(final int endJahr) {
+        if (lazy) {
+            log.log(Level.INFO, "Feiertage werden bei Bedarf berechnet");
+            return;
+        }
+        long start = System.nanoTime();
+        for (int jahr = START_JAHR; jahr <= endJahr; jahr++) {
+            jahr(jahr);
+        }
+        log.log(Level.INFO, "Feiertage von {0,number,#} bis {1,number,#} in {2} ms berechnet", START_JAHR, endJahr,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Überprüft, ob ein gegebener Tag ein Feiertag ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return true, falls es sich um einen Feiertag handelt.
+     */
+    @Override
+    public boolean isFeiertag(final LocalDate datum, final Land land) {
+        FeiertagsJahr jahr = jahr(datum.getYear());
+        return jahr != null && (jahr.maske(datum.getDayOfYear()) & FeiertagsJahr.bit(land)) != 0;
+    }
+
+    /**
+     * Überprüft, ob ein Tag ein Feiertag ist. Sobald das Jahr berechnet ist, kommt die Abfrage ohne Allokation aus.
+     *
+     * @param epochTag       Der Tag als Epochentag.
+     * @param landSchluessel Der Schlüssel des Landes.
+     *
+     * @return true, falls es sich um einen Feiertag handelt.
+     */
+    @Override
+    public boolean isFeiertag(final long epochTag, final int landSchluessel) {
+        return landSchluessel >= 1 && landSchluessel <= 16
+            && (feiertagsMaske(epochTag) & 1 << (landSchluessel - 1)) != 0;
+    }
+
+    /**
+     * Liefert die Bitmaske der Länder, in denen ein Tag ein Feiertag ist. Sobald das Jahr berechnet ist, ist dies ein
+     * Array-Zugriff ohne Allokation.
+     *
+     * @param epochTag Der Tag als Epochentag.
+     *
+     * @return Die Bitmaske, 0 auch für Tage außerhalb des unterstützten Bereichs.
+     */
+    @Override
+    public int feiertagsMaske(final long epochTag) {
+        if (epochTag < ERSTER_TAG || epochTag > LETZTER_TAG) {
+            return 0;
+        }
+        return jahr(FeiertagsJahr.jahr(epochTag)).maskeAm(epochTag);
+    }
+
+    /**
+     * Findet einen Feiertag durch das Datum.
+     *
+     * @param datum Das Datum als String.
+     * @param land  Das Land.
+     *
+     * @return Das gefundene Objekt.
+     */
+    @Override
+    public FeiertagsDatum getFeiertag(final String datum, final Land land) {
+        return getFeiertag(DatumsParser.datum(datum), land);
+    }
+
+    /**
+     * Findet einen Feiertag durch das Datum.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return Das gefundene Objekt.
+     */
+    @Override
+    public FeiertagsDatum getFeiertag(final LocalDate datum, final Land land) {
+        FeiertagsJahr jahr = jahr(datum.getYear());
+        return jahr == null ? null : jahr.feiertag(datum, land);
+    }
+
+    /**
+     * Findet alle Feiertage an einem Tag. Die Feiertage des Tags liegen im Index direkt hintereinander.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return Die gefundenen Objekte.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertageAm(final LocalDate datum, final Land land) {
+        FeiertagsJahr jahr = jahr(datum.getYear());
+        if (jahr == null || (jahr.maske(datum.getDayOfYear()) & FeiertagsJahr.bit(land)) == 0) {
+            return List.of();
+        }
+        List<FeiertagsDatum> ergebnis = new ArrayList<>(2);
+        jahr.sammle(datum, datum, land, ergebnis);
+        return ergebnis;
+    }
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land
+     *
+     * @return Die Liste gefundener Objekte.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land) {
+        List<FeiertagsDatum> ergebnis = new ArrayList<>();
+        for (int i = Math.max(von.getYear(), ERSTES_JAHR); i <= Math.min(bis.getYear(), LETZTES_JAHR); i++) {
+            FeiertagsJahr jahr = jahr(i);
+            if (jahr != null) {
+                jahr.sammle(von, bis, land, ergebnis);
+            }
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land
+     *
+     * @return Die Liste gefundener Objekte.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final String von, final String bis, final Land land) {
+        return getFeiertage(DatumsParser.datum(von), DatumsParser.datum(bis), land);
+    }
+
+    /**
+     * Liefert die Feiertage eines Jahres. Ist das Jahr noch nicht berechnet, wird es jetzt genau einmal berechnet.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Die Feiertage des Jahres oder null, wenn das Jahr außerhalb des unterstützten Bereichs liegt.
+     */
+    private FeiertagsJahr jahr(final int jahr) {
+        if (jahr < ERSTES_JAHR || jahr > LETZTES_JAHR) {
+            return null;
+        }
+        int index = jahr - ERSTES_JAHR;
+        FeiertagsJahr feiertagsJahr = jahre.get(index);
+        if (feiertagsJahr != null) {
+            return feiertagsJahr;
+        }
+        synchronized (jahre) {
+            feiertagsJahr = jahre.get(index);
+            if (feiertagsJahr == null) {
+                feiertagsJahr = new FeiertagsJahr(jahr);
+                jahre.set(index, feiertagsJahr);
+                log.log(Level.DEBUG, "Feiertage für {0,number,#} berechnet", jahr);
+            }
+            return feiertagsJahr;
+        }
+    }
+}
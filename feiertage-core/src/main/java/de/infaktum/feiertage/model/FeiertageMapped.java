@@ -0,0 +1,243 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementierung, die die Feiertage aus einer mit {@link FeiertageTabelle} erzeugten Datei liest.
+ *
+ * <p>Die Datei wird mit {@link FileChannel#map} eingeblendet; Abfragen lesen die Bitmaske des Tages direkt aus dem
+ * eingeblendeten Puffer. Beim Start wird nichts berechnet, die Tabelle belegt keinen Heap, und mehrere JVMs auf
+ * demselben Rechner teilen sich die Seiten im Page Cache des Betriebssystems.
+ * </p>
+ *
+ * <p>Tage außerhalb des Jahresbereichs der Datei werden von einem {@link FeiertageIndex} beantwortet, der Jahre erst
+ * bei Bedarf berechnet.
+ * </p>
+ */
+public class FeiertageMapped implements Feiertage {
+    private static final Feiertag[] alleFeiertage = Feiertag.values();
+
+    private final MappedByteBuffer tabelle;
+    private final int ersteJahr;
+    private final int letztesJahr;
+    private final long ersterTag;
+    private final int tage;
+    private final FeiertageIndex ausserhalb = new FeiertageIndex(true);
+
+    /**
+     * Blendet eine Tabelle ein.
+     *
+     * @param datei Die Datei.
+     *
+     * @throws IOException Falls die Datei nicht gelesen werden kann oder keine gültige Tabelle für die aktuellen
+     *                     Feiertagsregeln ist.
+     */
+    public FeiertageMapped(final Path datei) throws IOException {
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            if (kanal.size() < FeiertageTabelle.KOPF) {
+                throw new IOException("Keine Feiertagstabelle: " + datei);
+            }
+            tabelle = kanal.map(FileChannel.MapMode.READ_ONLY, 0, kanal.size());
+        }
+        if (tabelle.getInt(0) != FeiertageTabelle.KENNUNG || tabelle.getShort(4) != FeiertageTabelle.FORMAT) {
+            throw new IOException("Keine Feiertagstabelle: " + datei);
+        }
+        if (tabelle.getShort(6) != Feiertag.REGELVERSION) {
+            throw new IOException("Feiertagstabelle " + datei + " hat Regelversion " + tabelle.getShort(6)
+                + ", erwartet " + Feiertag.REGELVERSION);
+        }
+        ersteJahr = tabelle.getInt(8);
+        letztesJahr = tabelle.getInt(12);
+        ersterTag = tabelle.getLong(16);
+        tage = tabelle.getInt(24);
+        if (tabelle.capacity() != FeiertageTabelle.KOPF + 2L * tage) {
+            throw new IOException("Feiertagstabelle " + datei + " ist unvollständig");
+        }
+    }
+
+    /**
+     * Die Tabelle muss nicht initialisiert werden.
+     *
+     * @param endJahr Das letzte Jahr.
+     */
+    @Override
+    public void init(final int endJahr) {
+    }
+
+    /**
+     * Liefert das erste Jahr der Tabelle.
+     *
+     * @return Das erste Jahr.
+     */
+    public int ersteJahr() {
+        return ersteJahr;
+    }
+
+    /**
+     * Liefert das letzte Jahr der Tabelle.
+     *
+     * @return Das letzte Jahr.
+     */
+    public int letztesJahr() {
+        return letztesJahr;
+    }
+
+    /**
+     * Liefert die Bitmaske der Länder, in denen ein Tag ein Feiertag ist, direkt aus der Tabelle.
+     *
+     * @param epochTag Der Tag als Epochentag.
+     *
+     * @return Die Bitmaske.
+     */
+    @Override
+    public int feiertagsMaske(final long epochTag) {
+        long tag = epochTag - ersterTag;
+        if (tag < 0 || tag >= tage) {
+            return ausserhalb.feiertagsMaske(epochTag);
+        }
+        return tabelle.getShort(FeiertageTabelle.KOPF + 2 * (int) tag) & 0xFFFF;
+    }
+
+    /**
+     * Überprüft, ob ein Tag ein Feiertag ist.
+     *
+     * @param epochTag       Der Tag als Epochentag.
+     * @param landSchluessel Der Schlüssel des Landes.
+     *
+     * @return true, falls es sich um einen Feiertag handelt.
+     */
+    @Override
+    public boolean isFeiertag(final long epochTag, final int landSchluessel) {
+        return landSchluessel >= 1 && landSchluessel <= 16
+            && (feiertagsMaske(epochTag) & 1 << (landSchluessel - 1)) != 0;
+    }
+
+    /**
+     * Überprüft, ob ein gegebener Tag ein Feiertag ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return true, falls es sich um einen Feiertag handelt.
+     */
+    @Override
+    public boolean isFeiertag(final LocalDate datum, final Land land) {
+        return (feiertagsMaske(datum.toEpochDay()) & FeiertagsJahr.bit(land)) != 0;
+    }
+
+    /**
+     * Findet einen Feiertag durch das Datum als String.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return Das gefundene Objekt.
+     */
+    @Override
+    public FeiertagsDatum getFeiertag(final String datum, final Land land) {
+        return getFeiertag(DatumsParser.datum(datum), land);
+    }
+
+    /**
+     * Findet einen Feiertag durch das Datum. Nur wenn die Tabelle einen Feiertag meldet, wird bestimmt, welcher es
+     * ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return Das gefundene Objekt.
+     */
+    @Override
+    public FeiertagsDatum getFeiertag(final LocalDate datum, final Land land) {
+        if (!isFeiertag(datum, land)) {
+            return null;
+        }
+        return feiertag(datum, land);
+    }
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum, indem die Masken der Tage durchlaufen werden. Fallen zwei Feiertage
+     * auf einen Tag, werden beide geliefert.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land
+     *
+     * @return Die Liste gefundener Objekte.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land) {
+        List<FeiertagsDatum> ergebnis = new ArrayList<>();
+        int bit = FeiertagsJahr.bit(land);
+        if (bit == 0) {
+            return ergebnis;
+        }
+        long erster = Math.max(von.toEpochDay(), DatumsParser.epochTag(ERSTES_JAHR, 1, 1));
+        long letzter = Math.min(bis.toEpochDay(), DatumsParser.epochTag(LETZTES_JAHR, 12, 31));
+        for (long tag = erster; tag <= letzter; tag++) {
+            if ((feiertagsMaske(tag) & bit) != 0) {
+                LocalDate datum = LocalDate.ofEpochDay(tag);
+                for (Feiertag feiertag : alleFeiertage) {
+                    if (feiertag.isFeiertagIn(land, datum.getYear()) && feiertag.datum(datum.getYear()).equals(datum)) {
+                        ergebnis.add(new FeiertagsDatum(feiertag, datum.getYear()));
+                    }
+                }
+            }
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Findet alle Feiertage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land
+     *
+     * @return Die Liste gefundener Objekte.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final String von, final String bis, final Land land) {
+        return getFeiertage(DatumsParser.datum(von), DatumsParser.datum(bis), land);
+    }
+
+    /**
+     * Bestimmt den Feiertag an einem Tag, für den die Tabelle einen Feiertag im Land meldet.
+     */
+    private static FeiertagsDatum feiertag(final LocalDate datum, final Land land) {
+        for (Feiertag feiertag : alleFeiertage) {
+            if (feiertag.isFeiertagIn(land, datum.getYear()) && feiertag.datum(datum.getYear()).equals(datum)) {
+                return new FeiertagsDatum(feiertag, datum.getYear());
+            }
+        }
+        return null;
+    }
+}
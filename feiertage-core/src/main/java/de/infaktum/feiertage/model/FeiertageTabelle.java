@@ -0,0 +1,132 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Erzeugt die binäre Feiertagstabelle, die {@link FeiertageMapped} liest.
+ *
+ * <p>Die Datei beginnt mit einem Kopf von {@value #KOPF} Bytes, danach folgt für jeden Tag des Jahresbereichs die
+ * Bitmaske der Bundesländer mit Feiertag als vorzeichenloser 16-Bit-Wert (siehe {@link Bundesland#bit()}). Alle Werte
+ * sind Big Endian.
+ * </p>
+ *
+ * <pre>
+ *  0  int   Kennung "FTAB"
+ *  4  short Version des Formats
+ *  6  short {@link Feiertag#REGELVERSION}
+ *  8  int   Erstes Jahr
+ * 12  int   Letztes Jahr
+ * 16  long  Epochentag des 01.01. des ersten Jahres
+ * 24  int   Anzahl der Tage
+ * 28  int   reserviert
+ * </pre>
+ *
+ * <p>Die Tabelle wird beim Build des Kern-Moduls als <code>target/feiertage.bin</code> erzeugt, kann aber auch
+ * direkt erzeugt werden:
+ * </p>
+ *
+ * <code>java -cp feiertage-core.jar de.infaktum.feiertage.model.FeiertageTabelle datei [vonJahr] [bisJahr]</code>
+ */
+public final class FeiertageTabelle {
+    /**
+     * Die Kennung am Anfang der Datei.
+     */
+    static final int KENNUNG = 0x46544142;
+
+    /**
+     * Die Version des Dateiformats.
+     */
+    static final short FORMAT = 1;
+
+    /**
+     * Die Länge des Kopfes in Bytes.
+     */
+    static final int KOPF = 32;
+
+    private FeiertageTabelle() {
+    }
+
+    /**
+     * Schreibt die Tabelle für einen Jahresbereich. Die Datei wird zuerst unter einem temporären Namen geschrieben und
+     * dann ersetzt, sodass laufende Leser nie eine halbe Tabelle sehen.
+     *
+     * @param datei   Die Datei.
+     * @param vonJahr Das erste Jahr, nicht vor {@link Feiertage#ERSTES_JAHR}.
+     * @param bisJahr Das letzte Jahr, nicht nach {@link Feiertage#LETZTES_JAHR}.
+     *
+     * @throws IOException Falls die Datei nicht geschrieben werden kann.
+     */
+    public static void schreibe(final Path datei, final int vonJahr, final int bisJahr) throws IOException {
+        if (vonJahr < Feiertage.ERSTES_JAHR || bisJahr > Feiertage.LETZTES_JAHR || vonJahr > bisJahr) {
+            throw new IllegalArgumentException("Ungültiger Jahresbereich " + vonJahr + " bis " + bisJahr);
+        }
+        long ersterTag = DatumsParser.epochTag(vonJahr, 1, 1);
+        int tage = (int) (DatumsParser.epochTag(bisJahr + 1, 1, 1) - ersterTag);
+        ByteBuffer puffer = ByteBuffer.allocate(KOPF + 2 * tage);
+        puffer.putInt(KENNUNG).putShort(FORMAT).putShort((short) Feiertag.REGELVERSION)
+            .putInt(vonJahr).putInt(bisJahr).putLong(ersterTag).putInt(tage).putInt(0);
+        FeiertageIndex feiertage = new FeiertageIndex(true);
+        for (int tag = 0; tag < tage; tag++) {
+            puffer.putShort((short) feiertage.feiertagsMaske(ersterTag + tag));
+        }
+        puffer.flip();
+
+        Path verzeichnis = datei.toAbsolutePath().getParent();
+        Files.createDirectories(verzeichnis);
+        Path temp = Files.createTempFile(verzeichnis, datei.getFileName().toString(), ".tmp");
+        try (FileChannel kanal = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (puffer.hasRemaining()) {
+                kanal.write(puffer);
+            }
+        }
+        if (Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            // Temporäre Dateien sind nur für den Eigentümer lesbar, die Tabelle sollen aber alle JVMs lesen können
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-r--r--"));
+        }
+        Files.move(temp, datei, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Schreibt die Tabelle.
+     *
+     * @param args Die Datei, optional das erste und das letzte Jahr (Standard {@link Feiertage#ERSTES_JAHR} bis
+     *             {@link Feiertage#LETZTES_JAHR}, etwa 6,1 MB).
+     *
+     * @throws IOException Falls die Datei nicht geschrieben werden kann.
+     */
+    public static void main(final String... args) throws IOException {
+        Path datei = Path.of(args.length > 0 ? args[0] : "feiertage.bin");
+        int vonJahr = args.length > 1 ? Integer.parseInt(args[1]) : Feiertage.ERSTES_JAHR;
+        int bisJahr = args.length > 2 ? Integer.parseInt(args[2]) : Feiertage.LETZTES_JAHR;
+        schreibe(datei, vonJahr, bisJahr);
+    }
+}
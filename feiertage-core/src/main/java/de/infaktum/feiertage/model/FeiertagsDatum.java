@@ -24,14 +24,6 @@ import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.Objects;
-import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Die Klasse beschreibt einen gesetzlichen Feiertag.
@@ -40,23 +32,18 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * Um nach Feiertagen in einem bestimmten Zeitraum zu suchen, verwenden wir eine In-Memory-Datenbank,
  * in der alle Instanzen von FeiertagsDatum gespeichert werden. Über ein CrudRepository stehen dann
- * alle Suchfunktionen zur Verfügung.
+ * alle Suchfunktionen zur Verfügung. Die Abbildung auf die Datenbank steht in <code>META-INF/orm.xml</code> des
+ * Services, damit diese Klasse ohne JPA auskommt.
  *
  * @author Heiko Sippel
  * @version 1.0
  */
 
-@Entity
 public class FeiertagsDatum implements Serializable {
     public static final long serialVersionUID = 1L;
 
-    private static final Logger log = LoggerFactory.getLogger(FeiertagsDatum.class);
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
     private LocalDate datum;
-    @Enumerated(EnumType.STRING)
     private Feiertag feiertag;
 
     /**
@@ -119,7 +106,6 @@ public class FeiertagsDatum implements Serializable {
      * @return true, wenn der Feiertag auf ein Wochenende fällt.
      */
     public boolean isWochenende() {
-        log.trace("Test auf Wochenendede für {}", this);
         return datum.getDayOfWeek() == DayOfWeek.SATURDAY
             || datum.getDayOfWeek() == DayOfWeek.SUNDAY;
 
@@ -134,12 +120,12 @@ public class FeiertagsDatum implements Serializable {
             return false;
         }
 
-        return getDatum().equals(that.getDatum());
+        return Objects.equals(getDatum(), that.getDatum()) && getFeiertag() == that.getFeiertag();
     }
 
     @Override
     public int hashCode() {
-        return getDatum() != null ? getDatum().hashCode() : 0;
+        return Objects.hash(getDatum(), getFeiertag());
     }
 
 
@@ -149,7 +135,7 @@ public class FeiertagsDatum implements Serializable {
      * @return Eine formatierte Ausgabe des Datums.
      */
     public String toString() {
-        return datum + " (" + getName() + ") in: " + feiertag.laender();
+        return datum + " (" + getName() + ") in: " + feiertag.laender(datum.getYear());
     }
 
 }
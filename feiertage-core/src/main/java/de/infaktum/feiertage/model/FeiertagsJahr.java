@@ -0,0 +1,184 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Die vorberechneten Feiertage eines Jahres.
+ *
+ * <p>Für jeden Tag des Jahres wird eine Bitmaske der Bundesländer gespeichert, in denen der Tag ein Feiertag ist.
+ * Das Bit für ein Land ergibt sich aus seinem Schlüssel: Bit 0 für Schlüssel 1 (Schleswig-Holstein) bis Bit 15 für
+ * Schlüssel 16 (Thüringen). Die Frage, ob ein Tag ein Feiertag ist, wird so mit einem einzigen Array-Zugriff
+ * beantwortet.
+ * </p>
+ *
+ * <p>Die Feiertage selbst liegen nach Datum sortiert in einem Array; Feiertage am selben Tag stehen in der
+ * Reihenfolge von {@link Feiertag} hintereinander. Ein zweites Array enthält für jeden Tag den Index seines ersten
+ * Feiertags, sodass alle Feiertage eines Tags ohne Suche zwischen <code>beginn[tag]</code> und
+ * <code>beginn[tag + 1]</code> liegen, auch wenn mehrere Feiertage zusammenfallen (z.B. Christi Himmelfahrt und Tag
+ * der Arbeit am 01.05.2008).
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+final class FeiertagsJahr {
+    private final int jahr;
+    private final long ersterTag;
+    private final short[] masken;
+    private final FeiertagsDatum[] feiertage;
+    private final byte[] beginn;
+
+    /**
+     * Berechnet alle Feiertage eines Jahres.
+     *
+     * @param jahr Das Jahr.
+     */
+    FeiertagsJahr(final int jahr) {
+        this.jahr = jahr;
+        this.ersterTag = DatumsParser.epochTag(jahr, 1, 1);
+        this.masken = new short[LocalDate.ofYearDay(jahr, 1).lengthOfYear()];
+        this.feiertage = new FeiertagsDatum[Feiertag.values().length];
+        for (Feiertag feiertag : Feiertag.values()) {
+            FeiertagsDatum feiertagsDatum = new FeiertagsDatum(feiertag, jahr);
+            feiertage[feiertag.ordinal()] = feiertagsDatum;
+            int tag = feiertagsDatum.getDatum().getDayOfYear() - 1;
+            masken[tag] |= feiertag.maske(jahr);
+        }
+        Arrays.sort(feiertage, Comparator.comparing(FeiertagsDatum::getDatum));
+        this.beginn = new byte[masken.length + 1];
+        int index = 0;
+        for (int tag = 0; tag <= masken.length; tag++) {
+            while (index < feiertage.length && feiertage[index].getDatum().getDayOfYear() - 1 < tag) {
+                index++;
+            }
+            beginn[tag] = (byte) index;
+        }
+    }
+
+    /**
+     * Liefert das Bit eines Landes in den Tagesmasken. Nur Bundesländer haben ein Bit.
+     *
+     * @param land Das Land.
+     *
+     * @return Das Bit des Landes oder 0.
+     */
+    static int bit(final Land land) {
+        return land instanceof Bundesland bundesland ? bundesland.bit() : 0;
+    }
+
+    /**
+     * Bestimmt das Jahr eines Epochentags, ohne ein {@link LocalDate} anzulegen.
+     *
+     * @param epochTag Der Tag als Epochentag, nicht vor dem 01.01.0001.
+     *
+     * @return Das Jahr.
+     */
+    static int jahr(final long epochTag) {
+        // Schätzung über die mittlere Jahreslänge von 365,2425 Tagen, danach höchstens ein Schritt Korrektur
+        int jahr = (int) ((epochTag + 719_528L) * 400 / 146_097L);
+        if (epochTag < DatumsParser.epochTag(jahr, 1, 1)) {
+            return jahr - 1;
+        }
+        if (epochTag >= DatumsParser.epochTag(jahr + 1, 1, 1)) {
+            return jahr + 1;
+        }
+        return jahr;
+    }
+
+    /**
+     * Liefert das Jahr.
+     *
+     * @return Das Jahr.
+     */
+    int jahr() {
+        return jahr;
+    }
+
+    /**
+     * Liefert die Bitmaske der Bundesländer, in denen ein Tag ein Feiertag ist.
+     *
+     * @param tagImJahr Der Tag im Jahr, beginnend mit 1.
+     *
+     * @return Die Bitmaske.
+     */
+    int maske(final int tagImJahr) {
+        return masken[tagImJahr - 1] & 0xFFFF;
+    }
+
+    /**
+     * Liefert die Bitmaske der Bundesländer, in denen ein Tag ein Feiertag ist.
+     *
+     * @param epochTag Der Tag als Epochentag, muss in diesem Jahr liegen.
+     *
+     * @return Die Bitmaske.
+     */
+    int maskeAm(final long epochTag) {
+        return masken[(int) (epochTag - ersterTag)] & 0xFFFF;
+    }
+
+    /**
+     * Findet den Feiertag an einem Tag in einem Land. Fallen mehrere Feiertage auf den Tag, wird der erste in der
+     * Reihenfolge von {@link Feiertag} geliefert.
+     *
+     * @param datum Das Datum, muss in diesem Jahr liegen.
+     * @param land  Das Land.
+     *
+     * @return Der Feiertag oder null.
+     */
+    FeiertagsDatum feiertag(final LocalDate datum, final Land land) {
+        int tag = datum.getDayOfYear() - 1;
+        if ((masken[tag] & bit(land)) == 0) {
+            return null;
+        }
+        for (int i = beginn[tag]; i < beginn[tag + 1]; i++) {
+            if (feiertage[i].getFeiertag().isFeiertagIn(land, jahr)) {
+                return feiertage[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fügt alle Feiertage eines Zeitraums in einem Land zu einer Liste hinzu.
+     *
+     * @param von      Das Anfangs-Datum.
+     * @param bis      Das End-Datum.
+     * @param land     Das Land.
+     * @param ergebnis Die Liste, an die die gefundenen Feiertage angehängt werden.
+     */
+    void sammle(final LocalDate von, final LocalDate bis, final Land land, final List<FeiertagsDatum> ergebnis) {
+        int erster = von.getYear() < jahr ? 0 : von.getYear() > jahr ? masken.length : von.getDayOfYear() - 1;
+        int letzter = bis.getYear() > jahr ? masken.length - 1 : bis.getYear() < jahr ? -1 : bis.getDayOfYear() - 1;
+        if (erster > letzter) {
+            return;
+        }
+        for (int i = beginn[erster]; i < beginn[letzter + 1]; i++) {
+            if (feiertage[i].getFeiertag().isFeiertagIn(land, jahr)) {
+                ergebnis.add(feiertage[i]);
+            }
+        }
+    }
+}
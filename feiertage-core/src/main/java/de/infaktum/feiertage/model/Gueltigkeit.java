@@ -0,0 +1,127 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.util.List;
+
+/**
+ * Die Gültigkeit eines Feiertags in einigen Bundesländern für einen Zeitraum von Jahren.
+ *
+ * <p>Ein {@link Feiertag} hat eine oder mehrere Gültigkeiten; in einem Jahr gilt er in allen Ländern, deren Zeitraum
+ * das Jahr enthält. So gilt der Reformationstag etwa in den östlichen Ländern ab 1990, in den norddeutschen ab 2018 und
+ * 2017 einmalig bundesweit.
+ * </p>
+ *
+ * @param vonJahr Das erste Jahr, {@link Integer#MIN_VALUE} für unbegrenzt.
+ * @param bisJahr Das letzte Jahr, {@link Integer#MAX_VALUE} für unbegrenzt.
+ * @param laender Die Bundesländer.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public record Gueltigkeit(int vonJahr, int bisJahr, List<Bundesland> laender) {
+
+    /**
+     * Prüft und kopiert die Angaben.
+     *
+     * @param vonJahr Das erste Jahr.
+     * @param bisJahr Das letzte Jahr.
+     * @param laender Die Bundesländer.
+     */
+    public Gueltigkeit {
+        if (vonJahr > bisJahr) {
+            throw new IllegalArgumentException("Leerer Zeitraum " + vonJahr + " bis " + bisJahr);
+        }
+        laender = List.copyOf(laender);
+    }
+
+    /**
+     * Gültigkeit ohne zeitliche Begrenzung.
+     *
+     * @param laender Die Bundesländer.
+     *
+     * @return Die Gültigkeit.
+     */
+    public static Gueltigkeit immer(final Bundesland... laender) {
+        return new Gueltigkeit(Integer.MIN_VALUE, Integer.MAX_VALUE, List.of(laender));
+    }
+
+    /**
+     * Gültigkeit ab einem Jahr.
+     *
+     * @param jahr    Das erste Jahr.
+     * @param laender Die Bundesländer.
+     *
+     * @return Die Gültigkeit.
+     */
+    public static Gueltigkeit ab(final int jahr, final Bundesland... laender) {
+        return new Gueltigkeit(jahr, Integer.MAX_VALUE, List.of(laender));
+    }
+
+    /**
+     * Gültigkeit bis einschließlich eines Jahres.
+     *
+     * @param jahr    Das letzte Jahr.
+     * @param laender Die Bundesländer.
+     *
+     * @return Die Gültigkeit.
+     */
+    public static Gueltigkeit bis(final int jahr, final Bundesland... laender) {
+        return new Gueltigkeit(Integer.MIN_VALUE, jahr, List.of(laender));
+    }
+
+    /**
+     * Gültigkeit in einem einzigen Jahr.
+     *
+     * @param jahr    Das Jahr.
+     * @param laender Die Bundesländer.
+     *
+     * @return Die Gültigkeit.
+     */
+    public static Gueltigkeit nur(final int jahr, final Bundesland... laender) {
+        return new Gueltigkeit(jahr, jahr, List.of(laender));
+    }
+
+    /**
+     * Überprüft, ob ein Jahr im Zeitraum liegt.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return true, wenn das Jahr im Zeitraum liegt.
+     */
+    public boolean umfasst(final int jahr) {
+        return jahr >= vonJahr && jahr <= bisJahr;
+    }
+
+    /**
+     * Liefert die Bitmaske der Bundesländer (siehe {@link Bundesland#bit()}).
+     *
+     * @return Die Bitmaske.
+     */
+    public int maske() {
+        int maske = 0;
+        for (Bundesland land : laender) {
+            maske |= land.bit();
+        }
+        return maske;
+    }
+}
@@ -20,51 +20,73 @@ SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
 
 package de.infaktum.feiertage.model;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Feiertage sind meist nur in bestimmten Ländern gültig. Dies können auch Bundesländer,
  * Provinzen etc. sein. Dieses interface beschreibt ein generisches Land mit einer
  * Schlüsselnummer, einem Kürzel und eine Bezeichnung (= Name)
+ *
+ * <p>Die Länder werden in einem unveränderlichen Stand gehalten, der bei jeder Eintragung atomar ersetzt wird. Die
+ * Suche ist damit von beliebig vielen Threads aus ohne Sperren möglich. Die Bundesländer sind von Anfang an
+ * eingetragen.
  */
 public interface Land {
 
-    Map<Integer, Land> landSchluessel = new HashMap<>();
-    Map<String, Land> landKuerzel = new HashMap<>();
-
     /**
      * Liefert das Land über den Schlüssel.<br>
-     * Konkrete Implementierungen müssen dazu die entsprechende
-     * Hashmap <code>landSchluessel</code> füllen.
+     * Andere Länder als die Bundesländer müssen sich dazu mit {@link #registriere(Land)} eintragen.
      *
      * @param schluessel Der numerische Schlüssel des Landes.
      * @return Das gefundene Land.
      */
     static Land getLandBySchluessel(int schluessel) {
-        return landSchluessel.get(schluessel);
+        return LandRegister.aktuell().schluessel(schluessel);
     }
 
 
     /**
-     * Liefert das Land über das Kürzel.<br/>
-     * Konkrete Implementierungen müssen dazu die entsprechende Hashmap <code>landKuerzel</code>
-     * füllen.
+     * Liefert das Land über das Kürzel. Groß- und Kleinschreibung werden nicht beachtet.<br/>
+     * Andere Länder als die Bundesländer müssen sich dazu mit {@link #registriere(Land)} eintragen.
      *
      * @param kuerzel Das Kürzel des Landes.
      * @return Das gefundene Land.
      */
     static Land getlandByKuerzel(String kuerzel) {
-        return landKuerzel.get(kuerzel.toUpperCase());
+        return LandRegister.aktuell().kuerzel(kuerzel);
+    }
+
+    /**
+     * Liefert das Land über das Kürzel wie {@link #getlandByKuerzel(String)}, besteht aber auf einem eingetragenen
+     * Land. So wird ein Tippfehler in einer Anfrage nicht stillschweigend zu einem leeren Ergebnis.
+     *
+     * @param kuerzel Das Kürzel des Landes.
+     * @return Das gefundene Land.
+     * @throws UnbekanntesLandException Falls zu dem Kürzel kein Land eingetragen ist.
+     */
+    static Land ermittle(String kuerzel) {
+        Land land = getlandByKuerzel(kuerzel);
+        if (land == null) {
+            throw new UnbekanntesLandException(kuerzel);
+        }
+        return land;
+    }
+
+    /**
+     * Trägt ein Land ein, sodass es über Schlüssel und Kürzel gefunden wird. Ein Land mit gleichem Kürzel wird
+     * ersetzt.
+     *
+     * @param land Das Land.
+     */
+    static void registriere(Land land) {
+        LandRegister.registriere(land);
     }
 
     /**
-     * Liefert alle Länder.
+     * Liefert alle Länder, die Bundesländer zuerst.
      *
      * @return Alle Länder.
      */
     static Iterable<Land> getAll() {
-        return landKuerzel.values();
+        return LandRegister.aktuell().alle();
     }
 
     /**
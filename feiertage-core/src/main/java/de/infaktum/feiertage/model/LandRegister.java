@@ -0,0 +1,151 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unveränderlicher Stand aller eingetragenen Länder.
+ *
+ * <p>Jeder Stand enthält die Länder nach Schlüssel und Kürzel und wird nach dem Aufbau nicht mehr verändert. Ein neues
+ * Land wird eingetragen, indem ein neuer Stand erzeugt und atomar als aktueller Stand veröffentlicht wird; Leser sehen
+ * damit immer einen vollständigen Stand, ohne zu sperren. Der erste Stand enthält die Bundesländer und wird beim
+ * ersten Zugriff angelegt, unabhängig davon, ob {@link Bundesland} schon geladen ist.
+ * </p>
+ *
+ * <p>Zweistellige Kürzel werden über die unteren fünf Bits ihrer beiden Zeichen auf einen von 1024 Plätzen
+ * abgebildet. Da Groß- und Kleinbuchstaben sich nur im sechsten Bit unterscheiden, landen <code>NW</code> und
+ * <code>nw</code> auf demselben Platz; ein Vergleich mit {@link String#equalsIgnoreCase} bestätigt den Treffer.
+ * Für die Bundesländer ist die Abbildung kollisionsfrei. Kürzel anderer Länge oder mit besetztem Platz werden nur in
+ * der Map der Kürzel gesucht.
+ * </p>
+ */
+final class LandRegister {
+    private static final AtomicReference<LandRegister> aktuell =
+        new AtomicReference<>(new LandRegister(List.of(Bundesland.values())));
+
+    private final List<Land> alle;
+    private final Map<Integer, Land> nachSchluessel;
+    private final Map<String, Land> nachKuerzel;
+    private final Land[] plaetze = new Land[1024];
+    private final boolean ueberlauf;
+
+    /**
+     * Baut einen Stand auf. Ein Land ersetzt ein früheres mit gleichem Kürzel.
+     *
+     * @param laender Die Länder in der Reihenfolge ihrer Eintragung.
+     */
+    private LandRegister(final List<Land> laender) {
+        Map<String, Land> kuerzel = new LinkedHashMap<>();
+        for (Land land : laender) {
+            kuerzel.put(land.kuerzel().toUpperCase(Locale.ROOT), land);
+        }
+        Map<Integer, Land> schluessel = new HashMap<>();
+        boolean ohnePlatz = false;
+        for (Land land : kuerzel.values()) {
+            schluessel.put(land.schluessel(), land);
+            String k = land.kuerzel();
+            if (k.length() == 2 && plaetze[platz(k)] == null) {
+                plaetze[platz(k)] = land;
+            } else {
+                ohnePlatz = true;
+            }
+        }
+        this.alle = List.copyOf(kuerzel.values());
+        this.nachSchluessel = Map.copyOf(schluessel);
+        this.nachKuerzel = Map.copyOf(kuerzel);
+        this.ueberlauf = ohnePlatz;
+    }
+
+    /**
+     * Liefert den aktuellen Stand.
+     *
+     * @return Der Stand.
+     */
+    static LandRegister aktuell() {
+        return aktuell.get();
+    }
+
+    /**
+     * Trägt ein Land ein und veröffentlicht den neuen Stand. Gleichzeitige Eintragungen gehen nicht verloren.
+     *
+     * @param land Das Land.
+     */
+    static void registriere(final Land land) {
+        aktuell.updateAndGet(stand -> {
+            if (stand.nachKuerzel.get(land.kuerzel().toUpperCase(Locale.ROOT)) == land) {
+                return stand;
+            }
+            List<Land> laender = new ArrayList<>(stand.alle);
+            laender.add(land);
+            return new LandRegister(laender);
+        });
+    }
+
+    /**
+     * Sucht ein Land über seinen Schlüssel.
+     *
+     * @param schluessel Der Schlüssel.
+     *
+     * @return Das Land oder null.
+     */
+    Land schluessel(final int schluessel) {
+        return nachSchluessel.get(schluessel);
+    }
+
+    /**
+     * Sucht ein Land über sein Kürzel, ohne Beachtung der Groß- und Kleinschreibung. Zweistellige Kürzel werden
+     * ohne Allokation gefunden.
+     *
+     * @param kuerzel Das Kürzel.
+     *
+     * @return Das Land oder null.
+     */
+    Land kuerzel(final String kuerzel) {
+        if (kuerzel.length() == 2) {
+            Land land = plaetze[platz(kuerzel)];
+            if (land != null && land.kuerzel().equalsIgnoreCase(kuerzel)) {
+                return land;
+            }
+        }
+        return ueberlauf ? nachKuerzel.get(kuerzel.toUpperCase(Locale.ROOT)) : null;
+    }
+
+    /**
+     * Liefert alle Länder in der Reihenfolge ihrer Eintragung, die Bundesländer zuerst.
+     *
+     * @return Die Länder.
+     */
+    List<Land> alle() {
+        return alle;
+    }
+
+    private static int platz(final String kuerzel) {
+        return (kuerzel.charAt(0) & 0x1F) << 5 | kuerzel.charAt(1) & 0x1F;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Berechnung des Ostersonntags, von dem alle beweglichen Feiertage abhängen.
+ *
+ * <p>Für alle Jahre des gregorianischen Kalenders von 1583 bis 9999 werden die Ostersonntage beim Laden der Klasse
+ * einmal berechnet und als Epochentage in einem unveränderlichen Array abgelegt. Der Zugriff ist damit ohne Sperren
+ * von beliebig vielen Threads aus möglich. Jahre außerhalb der Tabelle werden bei jedem Aufruf neu berechnet.
+ * Beide Fälle werden für die Metriken gezählt.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public final class Ostern {
+    /**
+     * Das erste Jahr der Tabelle.
+     */
+    public static final int ERSTES_JAHR = 1583;
+
+    /**
+     * Das letzte Jahr der Tabelle.
+     */
+    public static final int LETZTES_JAHR = 9999;
+
+    /**
+     * Die Ostersonntage als Epochentage, Index ist <code>jahr - ERSTES_JAHR</code>.
+     */
+    private static final int[] ostersonntage = new int[LETZTES_JAHR - ERSTES_JAHR + 1];
+
+    private static final LongAdder tabellenTreffer = new LongAdder();
+    private static final LongAdder berechnungen = new LongAdder();
+
+    static {
+        for (int jahr = ERSTES_JAHR; jahr <= LETZTES_JAHR; jahr++) {
+            ostersonntage[jahr - ERSTES_JAHR] = (int) berechne(jahr);
+        }
+    }
+
+    private Ostern() {
+    }
+
+    /**
+     * Liefert das Datum des Ostersonntags eines Jahres.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Das Datum.
+     */
+    public static LocalDate ostersonntag(final int jahr) {
+        return LocalDate.ofEpochDay(epochTag(jahr));
+    }
+
+    /**
+     * Liefert den Ostersonntag eines Jahres als Tag seit dem 1.1.1970.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Der Epochentag des Ostersonntags.
+     */
+    public static long epochTag(final int jahr) {
+        if (jahr >= ERSTES_JAHR && jahr <= LETZTES_JAHR) {
+            tabellenTreffer.increment();
+            return ostersonntage[jahr - ERSTES_JAHR];
+        }
+        berechnungen.increment();
+        return berechne(jahr);
+    }
+
+    /**
+     * Liefert die Anzahl der Abfragen, die aus der Tabelle beantwortet wurden.
+     *
+     * @return Die Anzahl der Tabellentreffer.
+     */
+    public static long tabellenTreffer() {
+        return tabellenTreffer.sum();
+    }
+
+    /**
+     * Liefert die Anzahl der Abfragen, für die der Ostersonntag berechnet werden musste.
+     *
+     * @return Die Anzahl der Berechnungen.
+     */
+    public static long berechnungen() {
+        return berechnungen.sum();
+    }
+
+    /**
+     * Berechnet den Ostersonntag eines Jahres.
+     * Der Algorithmus stammt von C.F. Gauss und wurde aus der Wikipedia übernommen.
+     *
+     * @param jahr Das Jahr.
+     *
+     * @return Der Epochentag des Ostersonntags.
+     */
+    static long berechne(final int jahr) {
+        int a = jahr % 19;
+        int b = jahr % 4;
+        int c = jahr % 7;
+        int k = jahr / 100;
+        int p = (8 * k + 13) / 25;
+        int q = k / 4;
+        int m = (15 + k - p - q) % 30;
+        int d = (19 * a + m) % 30;
+        int n = (4 + k - q) % 7;
+        int e = (2 * b + 4 * c + 6 * d + n) % 7;
+        // Der Ostersonntag ist der (22 + d + e). März
+        int tag = 22 + d + e;
+
+        // Zwei Ausnahmen
+        if (d == 29 && e == 6) {
+            tag = 50;
+        }
+        if (d == 28 && e == 6 && a > 10) {
+            tag = 49;
+        }
+        return LocalDate.of(jahr, Month.MARCH, 1).toEpochDay() + tag - 1;
+    }
+}
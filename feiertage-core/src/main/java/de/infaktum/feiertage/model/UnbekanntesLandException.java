@@ -20,39 +20,28 @@ SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
 
 package de.infaktum.feiertage.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-
 /**
- * Eine Standard-Implementierung für das deutsche Datumsformat.
+ * Wird geworfen, wenn zu einem Kürzel kein Land eingetragen ist.
+ *
+ * <p>Wie {@link UngueltigesDatumException} beschreibt die Ausnahme eine fehlerhafte Eingabe und trägt keinen
+ * Stacktrace.
  *
  * @author Heiko Sippel
  * @version 1.0
  */
-@Component
-public class FeiertageDe extends FeiertageGenericImpl {
-    private static final Logger log = LoggerFactory.getLogger(FeiertageDe.class);
-
-    @Autowired
-    private FeiertagsDatumRepository repository;
-
+public class UnbekanntesLandException extends IllegalArgumentException {
 
     /**
-     * Initialisiert das System. Bis zum gegebenen Jahr werden alle FeiertagsDatums-Objekte erzeugt und in der Datenbank
-     * gespeichert.
+     * Erzeugt die Ausnahme für ein Kürzel.
      *
-     * @param endJahr Das letzte Jahr.
+     * @param kuerzel Das unbekannte Kürzel.
      */
-    @Override
-    public void init(final int endJahr) {
-        for (int jahr = 1970; jahr <= endJahr; jahr++) {
-            for (Feiertag feiertag : Feiertag.values()) {
-                repository.save(new FeiertagsDatum(feiertag, jahr));
-            }
-        }
+    public UnbekanntesLandException(final String kuerzel) {
+        super("Unbekanntes Land: " + kuerzel);
     }
 
-
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
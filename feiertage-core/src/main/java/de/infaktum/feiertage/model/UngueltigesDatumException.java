@@ -18,36 +18,31 @@ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
 SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
 */
 
-package de.infaktum.feiertage.model;
-
-import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.time.LocalDate;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
+package de.infaktum.feiertage.model;
 
 /**
- * Test für die Enum Feiertag.
+ * Wird geworfen, wenn eine Datumsangabe nicht gelesen werden kann.
+ *
+ * <p>Die Ausnahme beschreibt eine fehlerhafte Eingabe und keinen Programmfehler; sie trägt daher keinen Stacktrace,
+ * dessen Aufbau bei vielen ungültigen Anfragen nur Zeit kosten würde.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
  */
-class FeiertagTest {
-
-    private final static Logger log = LoggerFactory.getLogger(FeiertagTest.class);
-
-    @Test
-    @DisplayName("Gültigkeit der Feiertage")
-    public void gueltigIn() {
-
+public class UngueltigesDatumException extends IllegalArgumentException {
+
+    /**
+     * Erzeugt die Ausnahme für eine Eingabe.
+     *
+     * @param text Die ungültige Eingabe.
+     */
+    public UngueltigesDatumException(final CharSequence text) {
+        super("Ungültiges Datum: " + text);
     }
 
-    @Test
-    @DisplayName("Test des Ostern-Algorithmus")
-    public void ostern() {
-        LocalDate karfreitag = Feiertag.karfreitag.datum(2022);
-        log.debug(karfreitag.toString());
-        assertEquals(16, karfreitag.getDayOfMonth());
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
     }
-
-}
\ No newline at end of file
+}
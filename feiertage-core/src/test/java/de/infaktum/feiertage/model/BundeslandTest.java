@@ -0,0 +1,119 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static de.infaktum.feiertage.model.Bundesland.bayern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test für die Enum Bundesland.
+ */
+class BundeslandTest {
+
+    private final static Logger log = LoggerFactory.getLogger(BundeslandTest.class);
+
+    @Test
+    @DisplayName("Suche nach Land über Länderkürzel")
+    public void getBundeslandByKuerzel() {
+        Land gefunden = Land.getlandByKuerzel("BY");
+        assertEquals(bayern, gefunden);
+    }
+
+    @Test
+    @DisplayName("Suche nach Land über Länderkürzel ohne Beachtung der Schreibweise")
+    public void getBundeslandByKuerzelKlein() {
+        for (Bundesland land : Bundesland.values()) {
+            assertEquals(land, Land.getlandByKuerzel(land.kuerzel()));
+            assertEquals(land, Land.getlandByKuerzel(land.kuerzel().toLowerCase()));
+        }
+        assertNull(Land.getlandByKuerzel("XY"));
+        assertNull(Land.getlandByKuerzel("N"));
+    }
+
+    /**
+     * Die Eintragung ist global. Damit sie keine anderen Tests beeinflusst, werden die Klassen des Kern-Moduls wie im
+     * {@link NebenlaeufigkeitTest} mit einem eigenen Classloader geladen, der nach dem Test verworfen wird.
+     */
+    @Test
+    @DisplayName("Andere Länder können sich eintragen und haben keine deutschen Feiertage")
+    public void anderesLand() throws Exception {
+        URL klassen = Land.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader lader = new URLClassLoader(new URL[] {klassen}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> land = Class.forName(Land.class.getName(), true, lader);
+            Class<?> feiertag = Class.forName(Feiertag.class.getName(), true, lader);
+            Object oesterreich = Proxy.newProxyInstance(lader, new Class<?>[] {land},
+                (proxy, methode, args) -> switch (methode.getName()) {
+                    case "schluessel" -> 40;
+                    case "kuerzel" -> "AUT";
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "Österreich";
+                });
+            land.getMethod("registriere", land).invoke(null, oesterreich);
+            assertEquals(oesterreich, land.getMethod("getlandByKuerzel", String.class).invoke(null, "aut"));
+            assertEquals(oesterreich, land.getMethod("getLandBySchluessel", int.class).invoke(null, 40));
+
+            Method isFeiertagIn = feiertag.getMethod("isFeiertagIn", land, int.class);
+            Object neujahr = feiertag.getField("neujahr").get(null);
+            Object bayernImLader = land.getMethod("getlandByKuerzel", String.class).invoke(null, "BY");
+            assertFalse((Boolean) isFeiertagIn.invoke(neujahr, oesterreich, 2022));
+            assertTrue((Boolean) isFeiertagIn.invoke(neujahr, bayernImLader, 2022));
+        }
+        assertNull(Land.getlandByKuerzel("AUT"));
+        assertNull(Land.getLandBySchluessel(40));
+    }
+
+    @Test
+    @DisplayName("Suche nach Land über Länderschlüssel")
+    public void getBundeslandBySchluessel() {
+        Land gefunden = Land.getLandBySchluessel(9);
+        assertEquals(bayern, gefunden);
+    }
+
+    @Test
+    @DisplayName("Überprüfung der Daten")
+    public void schluesselKuerzelBezeichnung() {
+        log.debug("Überprüfe {}", bayern);
+        assertEquals(bayern.schluessel(), 9);
+        assertEquals(bayern.kuerzel(), "BY");
+        assertEquals(bayern.bezeichnung(), "Bayern");
+
+    }
+
+    @Test
+    @DisplayName("Bundesländer zählen: 16")
+    public void zaehleLaender() {
+        assertEquals(16, Bundesland.values().length);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test für die Klasse DatumsParser.
+ */
+class DatumsParserTest {
+
+    @Test
+    @DisplayName("Deutsches und ISO-Format")
+    public void formate() {
+        assertEquals(LocalDate.of(2022, 5, 1), DatumsParser.datum("01.05.2022"));
+        assertEquals(LocalDate.of(2022, 5, 1), DatumsParser.datum("2022-05-01"));
+        assertEquals(LocalDate.of(1583, 1, 1), DatumsParser.datum("01.01.1583"));
+        assertEquals(LocalDate.of(9999, 12, 31), DatumsParser.datum("9999-12-31"));
+        assertEquals(0, DatumsParser.epochTag("01.01.1970"));
+    }
+
+    @Test
+    @DisplayName("Jeder Tag stimmt mit LocalDate überein")
+    public void alleTage() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.uuuu");
+        for (long tag = LocalDate.of(1583, 1, 1).toEpochDay(); tag <= LocalDate.of(2500, 12, 31).toEpochDay(); tag++) {
+            LocalDate datum = LocalDate.ofEpochDay(tag);
+            assertEquals(tag, DatumsParser.epochTag(datum.format(formatter)));
+            assertEquals(tag, DatumsParser.epochTag(datum.toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("Ungültige Eingaben")
+    public void ungueltig() {
+        for (String text : new String[] {null, "", "1.5.2022", "01.05.22", "01-05-2022", "2022.05.01", "0a.05.2022",
+            "00.05.2022", "32.01.2022", "29.02.2022", "31.04.2022", "01.13.2022", "2022-00-10", "01.05.2022 "}) {
+            assertThrows(UngueltigesDatumException.class, () -> DatumsParser.epochTag(text), String.valueOf(text));
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), DatumsParser.datum("29.02.2024"));
+    }
+}
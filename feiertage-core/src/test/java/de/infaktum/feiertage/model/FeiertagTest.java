@@ -0,0 +1,119 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test für die Enum Feiertag.
+ */
+class FeiertagTest {
+
+    private final static Logger log = LoggerFactory.getLogger(FeiertagTest.class);
+
+    @Test
+    @DisplayName("Gültigkeit der Feiertage")
+    public void gueltigIn() {
+        assertFalse(Feiertag.reformationstag.isFeiertagIn(Bundesland.nrw, 2016));
+        assertTrue(Feiertag.reformationstag.isFeiertagIn(Bundesland.nrw, 2017));
+        assertFalse(Feiertag.reformationstag.isFeiertagIn(Bundesland.nrw, 2018));
+        assertFalse(Feiertag.reformationstag.isFeiertagIn(Bundesland.hamburg, 2016));
+        assertTrue(Feiertag.reformationstag.isFeiertagIn(Bundesland.hamburg, 2018));
+        assertTrue(Feiertag.reformationstag.isFeiertagIn(Bundesland.sachsen, 1990));
+        assertEquals(16, Feiertag.reformationstag.laender(2017).size());
+        assertFalse(Feiertag.frauentag.isFeiertagIn(Bundesland.berlin, 2018));
+        assertTrue(Feiertag.frauentag.isFeiertagIn(Bundesland.berlin, 2019));
+        assertFalse(Feiertag.frauentag.isFeiertagIn(Bundesland.mecklenburg_vorpommern, 2022));
+        assertTrue(Feiertag.frauentag.isFeiertagIn(Bundesland.mecklenburg_vorpommern, 2023));
+        assertFalse(Feiertag.weltkindertag.isFeiertagIn(Bundesland.thueringen, 2018));
+        assertTrue(Feiertag.weltkindertag.isFeiertagIn(Bundesland.thueringen, 2019));
+        assertTrue(Feiertag.buss_und_bettag.isFeiertagIn(Bundesland.bayern, 1994));
+        assertFalse(Feiertag.buss_und_bettag.isFeiertagIn(Bundesland.bayern, 1995));
+        assertTrue(Feiertag.buss_und_bettag.isFeiertagIn(Bundesland.sachsen, 2022));
+        assertFalse(Feiertag.nationalfeiertag.isFeiertagIn(Bundesland.nrw, 1989));
+        assertTrue(Feiertag.nationalfeiertag.isFeiertagIn(Bundesland.nrw, 1990));
+        assertEquals(List.of(Bundesland.saarland), Feiertag.maria_himmelfahrt.laender(1600));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("Die Methoden ohne Jahr verwenden das Bezugsjahr 2022")
+    public void ohneJahr() {
+        int jahr = Feiertag.BEZUGSJAHR;
+        assertEquals(2022, jahr);
+        assertEquals(List.of(Bundesland.berlin), Feiertag.frauentag.laender());
+        assertFalse(Feiertag.frauentag.isFeiertagIn(Bundesland.mecklenburg_vorpommern));
+        assertEquals(List.of(Bundesland.sachsen), Feiertag.buss_und_bettag.laender());
+        for (Feiertag feiertag : Feiertag.values()) {
+            assertEquals(feiertag.maske(jahr), feiertag.maske(), feiertag.name());
+            assertEquals(feiertag.laender(jahr), feiertag.laender(), feiertag.name());
+            for (Bundesland land : Bundesland.values()) {
+                assertEquals(feiertag.isFeiertagIn(land, jahr), feiertag.isFeiertagIn(land), feiertag + " " + land);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Die Tabelle der Masken stimmt mit den Gültigkeiten überein")
+    public void maskenTabelle() {
+        for (Feiertag feiertag : Feiertag.values()) {
+            for (int jahr = Ostern.ERSTES_JAHR; jahr <= Ostern.LETZTES_JAHR; jahr++) {
+                int maske = 0;
+                for (Gueltigkeit gueltigkeit : feiertag.gueltigkeiten()) {
+                    if (gueltigkeit.umfasst(jahr)) {
+                        maske |= gueltigkeit.maske();
+                    }
+                }
+                assertEquals(maske, feiertag.maske(jahr), feiertag + " " + jahr);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Historische Abfragen liefern die damals gültigen Feiertage")
+    public void historisch() {
+        FeiertageIndex feiertage = new FeiertageIndex(true);
+        assertTrue(feiertage.isFeiertag(LocalDate.of(2017, 10, 31), Bundesland.nrw));
+        assertFalse(feiertage.isFeiertag(LocalDate.of(2016, 10, 31), Bundesland.nrw));
+        assertTrue(feiertage.isFeiertag(LocalDate.of(1994, 11, 16), Bundesland.hessen));
+        assertFalse(feiertage.isFeiertag(LocalDate.of(1995, 11, 22), Bundesland.hessen));
+        assertEquals("Silvester", feiertage.getFeiertag(LocalDate.of(2022, 12, 31), Bundesland.nrw).getName());
+    }
+
+    @Test
+    @DisplayName("Test des Ostern-Algorithmus")
+    public void ostern() {
+        LocalDate karfreitag = Feiertag.karfreitag.datum(2022);
+        log.debug(karfreitag.toString());
+        assertEquals(15, karfreitag.getDayOfMonth());
+    }
+
+}
\ No newline at end of file
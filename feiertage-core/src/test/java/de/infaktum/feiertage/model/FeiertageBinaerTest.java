@@ -0,0 +1,83 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse FeiertageBinaer.
+ */
+class FeiertageBinaerTest {
+    private static final FeiertageIndex feiertage = new FeiertageIndex(true);
+
+    @Test
+    @DisplayName("Alle Länder von 1970 bis 2100 hin und zurück")
+    public void alleLaender() {
+        List<FeiertageBinaer.Eintrag> eintraege =
+            FeiertageBinaer.sammle(feiertage, LocalDate.of(1970, 1, 1), LocalDate.of(2100, 12, 31), null);
+        byte[] daten = FeiertageBinaer.kodiere(eintraege);
+        assertEquals(eintraege, FeiertageBinaer.dekodiere(daten));
+        assertTrue(daten.length < 16 * 1024, "Größe " + daten.length);
+
+        for (FeiertageBinaer.Eintrag eintrag : eintraege) {
+            for (Bundesland land : Bundesland.values()) {
+                assertEquals((eintrag.maske() & land.bit()) != 0,
+                    eintrag.feiertag().isFeiertagIn(land, eintrag.datum().getYear()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Ein Land stimmt mit getFeiertage überein")
+    public void einLand() {
+        LocalDate von = LocalDate.of(1900, 1, 1);
+        LocalDate bis = LocalDate.of(1999, 12, 31);
+        List<FeiertageBinaer.Eintrag> eintraege = FeiertageBinaer.dekodiere(
+            FeiertageBinaer.kodiere(FeiertageBinaer.sammle(feiertage, von, bis, Bundesland.sachsen)));
+        List<FeiertagsDatum> erwartet = feiertage.getFeiertage(von, bis, Bundesland.sachsen);
+        assertEquals(erwartet.size(), eintraege.size());
+        for (int i = 0; i < erwartet.size(); i++) {
+            assertEquals(erwartet.get(i).getDatum(), eintraege.get(i).datum());
+            assertEquals(erwartet.get(i).getFeiertag(), eintraege.get(i).feiertag());
+            assertEquals(Bundesland.sachsen.bit(), eintraege.get(i).maske());
+        }
+    }
+
+    @Test
+    @DisplayName("Ungültige Daten werden abgelehnt")
+    public void ungueltig() {
+        byte[] daten = FeiertageBinaer.kodiere(
+            FeiertageBinaer.sammle(feiertage, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), null));
+        assertThrows(IllegalArgumentException.class, () -> FeiertageBinaer.dekodiere(Arrays.copyOf(daten, 10)));
+        daten[1] = (byte) (Feiertag.REGELVERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> FeiertageBinaer.dekodiere(daten));
+        assertThrows(IllegalArgumentException.class, () -> FeiertageBinaer.dekodiere(new byte[] {7}));
+    }
+}
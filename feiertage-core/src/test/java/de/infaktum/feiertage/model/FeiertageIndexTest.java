@@ -0,0 +1,139 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse FeiertageIndex.
+ */
+class FeiertageIndexTest {
+    private static final FeiertageIndex feiertage = new FeiertageIndex();
+
+    @BeforeAll
+    static void init() {
+        feiertage.init(2030);
+    }
+
+    @Test
+    @DisplayName("Weihnachten ist Feiertag")
+    public void isFeiertag() {
+        assertTrue(feiertage.isFeiertag(LocalDate.of(2022, Month.DECEMBER, 25), Bundesland.nrw));
+        assertFalse(feiertage.isFeiertag(LocalDate.of(2022, Month.DECEMBER, 27), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Allerheiligen gilt nur in manchen Ländern")
+    public void nurInManchenLaendern() {
+        LocalDate allerheiligen = LocalDate.of(2022, Month.NOVEMBER, 1);
+        assertTrue(feiertage.isFeiertag(allerheiligen, Bundesland.bayern));
+        assertFalse(feiertage.isFeiertag(allerheiligen, Bundesland.berlin));
+        assertNull(feiertage.getFeiertag(allerheiligen, Bundesland.berlin));
+    }
+
+    @Test
+    @DisplayName("Fronleichnam gilt nur in manchen Ländern")
+    public void fronleichnam() {
+        LocalDate fronleichnam = LocalDate.of(2022, Month.JUNE, 16);
+        assertTrue(feiertage.isFeiertag(fronleichnam, Bundesland.bayern));
+        assertFalse(feiertage.isFeiertag(fronleichnam, Bundesland.berlin));
+    }
+
+    @Test
+    @DisplayName("Test getFeiertag")
+    public void getFeiertag() {
+        FeiertagsDatum gefunden = feiertage.getFeiertag("01.01.2020", Bundesland.nrw);
+        assertEquals(Feiertag.neujahr, gefunden.getFeiertag());
+    }
+
+    @Test
+    @DisplayName("Test getFeiertage")
+    public void getFeiertage() {
+        List<FeiertagsDatum> gefunden = feiertage.getFeiertage("01.01.2022", "31.12.2022", Bundesland.nrw);
+        assertEquals(13, gefunden.size());
+    }
+
+    @Test
+    @DisplayName("Zusammenfallende Feiertage werden alle geliefert")
+    public void zusammenfallend() {
+        LocalDate datum = LocalDate.of(2008, Month.MAY, 1);
+        List<FeiertagsDatum> gefunden = feiertage.getFeiertageAm(datum, Bundesland.nrw);
+        assertEquals(List.of(Feiertag.maifeiertag, Feiertag.christi_himmelfahrt),
+            gefunden.stream().map(FeiertagsDatum::getFeiertag).toList());
+        assertEquals(Feiertag.maifeiertag, feiertage.getFeiertag(datum, Bundesland.nrw).getFeiertag());
+        assertEquals(gefunden, feiertage.getFeiertage(datum, datum, Bundesland.nrw));
+        assertTrue(feiertage.getFeiertageAm(datum.plusDays(1), Bundesland.nrw).isEmpty());
+        assertEquals(List.of(Feiertag.frauentag), feiertage.getFeiertageAm(LocalDate.of(2022, Month.MARCH, 8),
+            Bundesland.berlin).stream().map(FeiertagsDatum::getFeiertag).toList());
+        assertTrue(feiertage.getFeiertageAm(LocalDate.of(2022, Month.MARCH, 8), Bundesland.nrw).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Jahre außerhalb der Initialisierung werden bei Bedarf berechnet")
+    public void ausserhalb() {
+        assertTrue(feiertage.isFeiertag(LocalDate.of(2150, Month.JANUARY, 1), Bundesland.nrw));
+        assertEquals(Feiertag.neujahr, feiertage.getFeiertag(LocalDate.of(1900, Month.JANUARY, 1), Bundesland.nrw)
+            .getFeiertag());
+    }
+
+    @Test
+    @DisplayName("Jahre außerhalb des gregorianischen Kalenders liefern keine Feiertage")
+    public void nichtUnterstuetzt() {
+        assertFalse(feiertage.isFeiertag(LocalDate.of(1500, Month.JANUARY, 1), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Epochentage und Schlüssel liefern dieselben Feiertage wie LocalDate und Land")
+    public void epochTag() {
+        for (long tag = LocalDate.of(1970, 1, 1).toEpochDay(); tag <= LocalDate.of(2030, 12, 31).toEpochDay(); tag++) {
+            LocalDate datum = LocalDate.ofEpochDay(tag);
+            int maske = 0;
+            for (Bundesland land : Bundesland.values()) {
+                boolean feiertag = feiertage.isFeiertag(datum, land);
+                assertEquals(feiertag, feiertage.isFeiertag(tag, land.schluessel()));
+                maske |= feiertag ? 1 << (land.schluessel() - 1) : 0;
+            }
+            assertEquals(maske, feiertage.feiertagsMaske(tag));
+        }
+        assertFalse(feiertage.isFeiertag(LocalDate.of(2022, 1, 1).toEpochDay(), 17));
+        assertEquals(0, feiertage.feiertagsMaske(LocalDate.of(1500, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Das Jahr eines Epochentags")
+    public void jahrVonEpochTag() {
+        for (int jahr = Feiertage.ERSTES_JAHR; jahr <= Feiertage.LETZTES_JAHR; jahr++) {
+            LocalDate neujahr = LocalDate.of(jahr, 1, 1);
+            assertEquals(jahr, FeiertagsJahr.jahr(neujahr.toEpochDay()));
+            assertEquals(jahr - 1, FeiertagsJahr.jahr(neujahr.toEpochDay() - 1));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests für die Klasse FeiertageMapped.
+ */
+class FeiertageMappedTest {
+    private static final FeiertageIndex index = new FeiertageIndex(true);
+    private static FeiertageMapped feiertage;
+
+    @TempDir
+    static Path verzeichnis;
+
+    @BeforeAll
+    static void init() throws IOException {
+        Path datei = verzeichnis.resolve("feiertage.bin");
+        FeiertageTabelle.schreibe(datei, 1970, 2100);
+        feiertage = new FeiertageMapped(datei);
+    }
+
+    @Test
+    @DisplayName("Die Tabelle stimmt Tag für Tag mit dem Index überein")
+    public void wieIndex() {
+        assertEquals(1970, feiertage.ersteJahr());
+        assertEquals(2100, feiertage.letztesJahr());
+        for (long tag = LocalDate.of(1970, 1, 1).toEpochDay(); tag <= LocalDate.of(2100, 12, 31).toEpochDay(); tag++) {
+            assertEquals(index.feiertagsMaske(tag), feiertage.feiertagsMaske(tag));
+        }
+        assertEquals(index.getFeiertage("01.01.2000", "31.12.2030", Bundesland.bayern),
+            feiertage.getFeiertage("01.01.2000", "31.12.2030", Bundesland.bayern));
+    }
+
+    @Test
+    @DisplayName("Einzelne Feiertage")
+    public void getFeiertag() {
+        assertEquals(Feiertag.fronleichnam, feiertage.getFeiertag("16.06.2022", Bundesland.bayern).getFeiertag());
+        assertEquals(null, feiertage.getFeiertag("16.06.2022", Bundesland.berlin));
+        assertTrue(feiertage.isFeiertag(LocalDate.of(2022, 12, 25), Bundesland.nrw));
+        assertFalse(feiertage.isFeiertag(LocalDate.of(2022, 12, 27), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Jahre außerhalb der Tabelle werden berechnet")
+    public void ausserhalb() {
+        assertTrue(feiertage.isFeiertag(LocalDate.of(2150, 1, 1), Bundesland.nrw));
+        assertEquals(Feiertag.neujahr, feiertage.getFeiertag("01.01.1900", Bundesland.nrw).getFeiertag());
+        assertFalse(feiertage.isFeiertag(LocalDate.of(1500, 1, 1), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Tabellen anderer Regelversionen werden abgelehnt")
+    public void regelversion() throws IOException {
+        Path datei = verzeichnis.resolve("alt.bin");
+        byte[] inhalt = Files.readAllBytes(verzeichnis.resolve("feiertage.bin"));
+        ByteBuffer.wrap(inhalt).putShort(6, (short) (Feiertag.REGELVERSION + 1));
+        Files.write(datei, inhalt);
+        assertThrows(IOException.class, () -> new FeiertageMapped(datei));
+
+        Files.write(datei, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> new FeiertageMapped(datei));
+    }
+}
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 /**
  * Test für die Klasse Feiertag.
@@ -43,4 +44,15 @@ class FeiertagsDatumTest {
         assertEquals(feiertag, feiertagsDatum.getFeiertag());
     }
 
+    @Test
+    @DisplayName("Feiertage am selben Tag sind verschieden")
+    public void gleichheit() {
+        FeiertagsDatum maifeiertag = new FeiertagsDatum(feiertag, 2008);
+        FeiertagsDatum himmelfahrt = new FeiertagsDatum(Feiertag.christi_himmelfahrt, 2008);
+        assertEquals(maifeiertag.getDatum(), himmelfahrt.getDatum());
+        assertNotEquals(maifeiertag, himmelfahrt);
+        assertEquals(maifeiertag, new FeiertagsDatum(feiertag, 2008));
+        assertEquals(maifeiertag.hashCode(), new FeiertagsDatum(feiertag, 2008).hashCode());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stresstest für den ersten Zugriff auf Feiertage und Länder aus vielen Threads.
+ *
+ * <p>In jeder Runde werden die Klassen des Kern-Moduls mit einem eigenen Classloader neu geladen, sodass die
+ * Initialisierung von {@link Land}, {@link Bundesland}, {@link Feiertag}, {@link Ostern} und der Jahre des
+ * {@link FeiertageIndex} jedes Mal gleichzeitig aus allen Threads angestoßen wird. Die Ergebnisse werden mit einer
+ * Berechnung in einem einzelnen Thread verglichen.
+ * </p>
+ */
+class NebenlaeufigkeitTest {
+    private static final int THREADS = 16;
+    private static final int RUNDEN = 20;
+    private static final int LAENDER_JE_THREAD = 10;
+    private static final int ERSTES_JAHR = 1970;
+    private static final int LETZTES_JAHR = 2100;
+    private static final long ERSTER_TAG = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long LETZTER_TAG = LocalDate.of(2030, 12, 31).toEpochDay();
+
+    @Test
+    @DisplayName("Erster Zugriff aus vielen Threads liefert dieselben Ergebnisse wie ein einzelner Thread")
+    public void ersterZugriff() throws Exception {
+        Feiertag[] feiertage = Feiertag.values();
+        LocalDate[][] daten = new LocalDate[LETZTES_JAHR - ERSTES_JAHR + 1][feiertage.length];
+        for (int jahr = ERSTES_JAHR; jahr <= LETZTES_JAHR; jahr++) {
+            for (Feiertag feiertag : feiertage) {
+                daten[jahr - ERSTES_JAHR][feiertag.ordinal()] = feiertag.datum(jahr);
+            }
+        }
+        FeiertageIndex index = new FeiertageIndex(true);
+        int[] masken = new int[(int) (LETZTER_TAG - ERSTER_TAG + 1)];
+        for (long tag = ERSTER_TAG; tag <= LETZTER_TAG; tag++) {
+            masken[(int) (tag - ERSTER_TAG)] = index.feiertagsMaske(tag);
+        }
+
+        URL klassen = Land.class.getProtectionDomain().getCodeSource().getLocation();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int runde = 0; runde < RUNDEN; runde++) {
+                try (URLClassLoader lader = new URLClassLoader(new URL[] {klassen},
+                    ClassLoader.getPlatformClassLoader())) {
+                    runde(lader, executor, daten, masken);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runde(final ClassLoader lader, final ExecutorService executor, final LocalDate[][] daten,
+                       final int[] masken) throws Exception {
+        Class<?> land = Class.forName(Land.class.getName(), false, lader);
+        Class<?> feiertag = Class.forName(Feiertag.class.getName(), false, lader);
+        Method getlandByKuerzel = land.getMethod("getlandByKuerzel", String.class);
+        Method registriere = land.getMethod("registriere", land);
+        Method schluessel = land.getMethod("schluessel");
+        Method datum = feiertag.getMethod("datum", int.class);
+        Object index = Class.forName(FeiertageIndex.class.getName(), true, lader).getConstructor(boolean.class)
+            .newInstance(true);
+        Method feiertagsMaske = index.getClass().getMethod("feiertagsMaske", long.class);
+
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Future<?>> ergebnisse = new ArrayList<>();
+        List<Object> registriert = new ArrayList<>();
+        for (int nr = 0; nr < THREADS; nr++) {
+            int thread = nr;
+            List<Object> eigene = new ArrayList<>();
+            for (int i = 0; i < LAENDER_JE_THREAD && thread % 4 == 3; i++) {
+                eigene.add(fremdesLand(lader, land, "X" + thread + "_" + i, 1000 + thread * LAENDER_JE_THREAD + i));
+            }
+            registriert.addAll(eigene);
+            Callable<Void> aufgabe = () -> {
+                start.await();
+                switch (thread % 4) {
+                    case 0 -> {
+                        for (Bundesland bundesland : Bundesland.values()) {
+                            Object gefunden = getlandByKuerzel.invoke(null, bundesland.kuerzel());
+                            assertEquals(bundesland.schluessel(), schluessel.invoke(gefunden));
+                            assertSame(gefunden,
+                                getlandByKuerzel.invoke(null, bundesland.kuerzel().toLowerCase(Locale.ROOT)));
+                        }
+                    }
+                    case 1 -> {
+                        Object[] alle = feiertag.getEnumConstants();
+                        for (int jahr = ERSTES_JAHR; jahr <= LETZTES_JAHR; jahr++) {
+                            for (int i = 0; i < alle.length; i++) {
+                                assertEquals(daten[jahr - ERSTES_JAHR][i], datum.invoke(alle[i], jahr));
+                            }
+                        }
+                    }
+                    case 2 -> {
+                        for (long tag = ERSTER_TAG; tag <= LETZTER_TAG; tag++) {
+                            assertEquals(masken[(int) (tag - ERSTER_TAG)], feiertagsMaske.invoke(index, tag));
+                        }
+                    }
+                    default -> {
+                        for (Object fremd : eigene) {
+                            registriere.invoke(null, fremd);
+                            assertSame(fremd, getlandByKuerzel.invoke(null, kuerzel(fremd, land)));
+                            assertEquals(Bundesland.nrw.schluessel(),
+                                schluessel.invoke(getlandByKuerzel.invoke(null, "NW")));
+                        }
+                    }
+                }
+                return null;
+            };
+            ergebnisse.add(executor.submit(aufgabe));
+        }
+        for (Future<?> ergebnis : ergebnisse) {
+            ergebnis.get();
+        }
+
+        // Keine Eintragung darf durch eine gleichzeitige verloren gegangen sein
+        for (Object fremd : registriert) {
+            assertSame(fremd, getlandByKuerzel.invoke(null, kuerzel(fremd, land)));
+        }
+        int anzahl = 0;
+        for (Object ignored : (Iterable<?>) land.getMethod("getAll").invoke(null)) {
+            anzahl++;
+        }
+        assertEquals(Bundesland.values().length + registriert.size(), anzahl);
+    }
+
+    private static String kuerzel(final Object fremd, final Class<?> land) throws Exception {
+        return (String) land.getMethod("kuerzel").invoke(fremd);
+    }
+
+    private static Object fremdesLand(final ClassLoader lader, final Class<?> land, final String kuerzel,
+                                      final int schluessel) {
+        return Proxy.newProxyInstance(lader, new Class<?>[] {land},
+            (proxy, methode, args) -> switch (methode.getName()) {
+                case "schluessel" -> schluessel;
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> kuerzel;
+            });
+    }
+}
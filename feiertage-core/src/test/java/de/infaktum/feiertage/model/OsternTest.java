@@ -0,0 +1,68 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test für die Klasse Ostern.
+ */
+class OsternTest {
+
+    @Test
+    @DisplayName("Bekannte Ostersonntage")
+    public void ostersonntage() {
+        assertEquals(LocalDate.of(1583, 4, 10), Ostern.ostersonntag(1583));
+        assertEquals(LocalDate.of(2008, 3, 23), Ostern.ostersonntag(2008));
+        assertEquals(LocalDate.of(2022, 4, 17), Ostern.ostersonntag(2022));
+        assertEquals(LocalDate.of(2038, 4, 25), Ostern.ostersonntag(2038));
+        assertEquals(LocalDate.of(2285, 3, 22), Ostern.ostersonntag(2285));
+    }
+
+    @Test
+    @DisplayName("Die beiden Ausnahmen der Gaußschen Osterformel")
+    public void ausnahmen() {
+        assertEquals(LocalDate.of(1981, 4, 19), Ostern.ostersonntag(1981));
+        assertEquals(LocalDate.of(1954, 4, 18), Ostern.ostersonntag(1954));
+    }
+
+    @Test
+    @DisplayName("Tabelle und Berechnung stimmen überein")
+    public void tabelle() {
+        for (int jahr = Ostern.ERSTES_JAHR; jahr <= Ostern.LETZTES_JAHR; jahr++) {
+            assertEquals(Ostern.berechne(jahr), Ostern.epochTag(jahr));
+        }
+    }
+
+    @Test
+    @DisplayName("Bewegliche Feiertage hängen vom selben Ostersonntag ab")
+    public void beweglicheFeiertage() {
+        assertEquals(LocalDate.of(2022, 4, 15), Feiertag.karfreitag.datum(2022));
+        assertEquals(LocalDate.of(2022, 4, 18), Feiertag.ostermontag.datum(2022));
+        assertEquals(LocalDate.of(2022, 5, 26), Feiertag.christi_himmelfahrt.datum(2022));
+        assertEquals(LocalDate.of(2022, 6, 6), Feiertag.pfingstmontag.datum(2022));
+        assertEquals(LocalDate.of(2022, 6, 16), Feiertag.fronleichnam.datum(2022));
+    }
+}
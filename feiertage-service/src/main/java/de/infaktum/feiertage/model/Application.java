@@ -0,0 +1,434 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Die Anwendung startet die Web-Applikation.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@SpringBootApplication
+public class Application {
+    private static final Logger log = LoggerFactory.getLogger(Application.class);
+
+    /**
+     * Boots the web app.
+     *
+     * @param args Optionale Parameter
+     */
+    public static void main(String... args) {
+        SpringApplication.run(Application.class, args);
+    }
+
+    /**
+     * Stellt die Feiertage aus dem Kern-Modul als Standard-Backend bereit.
+     *
+     * @param lazy true, wenn jedes Jahr erst bei der ersten Abfrage berechnet werden soll.
+     *
+     * @return Die Feiertage im Speicher.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feiertage.backend", havingValue = "index", matchIfMissing = true)
+    public FeiertageIndex feiertageIndex(@Value("${feiertage.lazy:false}") final boolean lazy) {
+        return new FeiertageIndex(lazy);
+    }
+
+    /**
+     * Stellt die Feiertage aus einer eingeblendeten Tabelle bereit (<code>feiertage.backend=mapped</code>). Die
+     * Tabelle wird beim Build des Kern-Moduls erzeugt, siehe {@link FeiertageTabelle}.
+     *
+     * @param tabelle Der Pfad der Tabelle.
+     *
+     * @return Die Feiertage aus der Tabelle.
+     *
+     * @throws IOException Falls die Tabelle nicht gelesen werden kann.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "feiertage.backend", havingValue = "mapped")
+    public FeiertageMapped feiertageMapped(@Value("${feiertage.tabelle}") final String tabelle) throws IOException {
+        FeiertageMapped feiertage = new FeiertageMapped(Path.of(tabelle));
+        log.info("Feiertagstabelle {} für {} bis {} eingeblendet", tabelle, feiertage.ersteJahr(),
+            feiertage.letztesJahr());
+        return feiertage;
+    }
+
+    /**
+     * Der Controller des REST-Services.
+     */
+    @RestController
+    public static class Controller {
+        private static final Logger log = LoggerFactory.getLogger(Controller.class);
+        /**
+         * Die größte Anzahl Werktage, um die in einer Anfrage gezählt wird, etwa 400 Jahre.
+         */
+        static final int MAX_WERKTAGE = 100_000;
+        /**
+         * Die größte Anzahl Jahre eines Kalenders, deutlich kleiner als der {@link IcsJahresCache}.
+         */
+        static final int MAX_ICS_JAHRE = 100;
+        /**
+         * Die größte Anzahl Jahre einer JSON-Antwort von /feiertage, deutlich kleiner als der {@link JsonJahresCache}.
+         * Größere Bereiche liefert die NDJSON-Variante Jahr für Jahr.
+         */
+        static final int MAX_JSON_JAHRE = 100;
+        @Autowired
+        private Feiertage feiertage;
+        @Autowired
+        private Werktage werktage;
+        @Autowired
+        private Stapelabfrage stapelabfrage;
+        @Autowired
+        private ObjectMapper objectMapper;
+        @Autowired
+        private JsonJahresCache jsonJahresCache;
+        @Autowired
+        private IcsJahresCache icsJahresCache;
+        @Autowired
+        private CacheSteuerung cacheSteuerung;
+
+        /**
+         * Initialisiert das Feiertags-Bestimmungssystem bis zum angegeben Jahr.
+         */
+        @PostConstruct
+        public void init() {
+            feiertage.init(2100);
+        }
+
+        /**
+         * Mapping für die Url /feiertag. Ein einzelner Tag wird abgefragt.
+         *
+         * @param datum       Das Datum des abgefragten Feiertags.
+         * @param land        Das Bundesland.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Informationen über den Tag als Feiertag.
+         */
+        @GetMapping("/feiertag")
+        public ResponseEntity<FeiertagsDatum> feiertag(
+            @RequestParam final String datum, @RequestParam final String land,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            LocalDate tag = DatumsParser.datum(datum);
+            Land bundesland = Land.ermittle(land);
+            String etag = CacheSteuerung.etag("feiertag", tag.toEpochDay(), bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter datum {}, Land {}", tag, bundesland);
+            return cacheSteuerung.ok(etag).body(feiertage.getFeiertag(tag, bundesland));
+        }
+
+        /**
+         * Mapping für die Url /feiertag/alle. Alle Feiertage an einem Tag werden abgefragt, auch wenn mehrere
+         * Feiertage zusammenfallen.
+         *
+         * @param datum       Das Datum.
+         * @param land        Das Bundesland.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Die Feiertage des Tags als JSON-Array, leer wenn der Tag kein Feiertag ist.
+         */
+        @GetMapping("/feiertag/alle")
+        public ResponseEntity<List<FeiertagsDatum>> feiertagAlle(
+            @RequestParam final String datum, @RequestParam final String land,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            LocalDate tag = DatumsParser.datum(datum);
+            Land bundesland = Land.ermittle(land);
+            String etag = CacheSteuerung.etag("feiertag.alle", tag.toEpochDay(), bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter datum {}, Land {}, alle Feiertage", tag, bundesland);
+            return cacheSteuerung.ok(etag).body(feiertage.getFeiertageAm(tag, bundesland));
+        }
+
+        /**
+         * Mapping für die Url /feiertage. Alle Feiertage eines Zeitraums werden abgefragt. Die Antwort wird aus den
+         * vorab serialisierten Jahren des {@link JsonJahresCache} zusammengesetzt.
+         *
+         * @param von         Das Datum des ersten Tags des Bereichs.
+         * @param bis         Das Datum des zweiten Tags des Bereichs.
+         * @param land        Das Bundesland.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Informationen über die Feiertage zwischen den beiden Tagen als JSON-Array.
+         *
+         * @throws UngueltigeAnzahlException Falls der Bereich mehr als {@link #MAX_JSON_JAHRE} Jahre umfasst.
+         */
+        @GetMapping("/feiertage")
+        public ResponseEntity<byte[]> feiertage(
+            @RequestParam final String von, @RequestParam final String bis, @RequestParam final String land,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            LocalDate anfang = DatumsParser.datum(von);
+            LocalDate ende = DatumsParser.datum(bis);
+            Land bundesland = Land.ermittle(land);
+            int jahre = ende.getYear() - anfang.getYear() + 1;
+            if (jahre > MAX_JSON_JAHRE) {
+                throw new UngueltigeAnzahlException(jahre + " Jahre von " + anfang + " bis " + ende);
+            }
+            String etag = CacheSteuerung.etag("feiertage", anfang.toEpochDay(), ende.toEpochDay(),
+                bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter von {} bis {}, Land {}", anfang, ende, bundesland);
+            byte[] json = jsonJahresCache.json(anfang, ende, bundesland);
+            return cacheSteuerung.ok(etag).contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT)
+                .body(json);
+        }
+
+        /**
+         * Mapping für die Url /feiertage mit <code>Accept: application/x-ndjson</code>. Die Feiertage werden Jahr für
+         * Jahr abgefragt und als eine Zeile je Feiertag geschrieben, sodass auch sehr große Bereiche mit
+         * gleichbleibendem Speicher auskommen.
+         *
+         * @param von         Das Datum des ersten Tags des Bereichs.
+         * @param bis         Das Datum des zweiten Tags des Bereichs.
+         * @param land        Das Bundesland.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Die Feiertage zwischen den beiden Tagen, eine Zeile je Feiertag.
+         */
+        @GetMapping(value = "/feiertage", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> feiertageNdjson(
+            @RequestParam final String von, @RequestParam final String bis, @RequestParam final String land,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            LocalDate anfang = DatumsParser.datum(von);
+            LocalDate ende = DatumsParser.datum(bis);
+            Land bundesland = Land.ermittle(land);
+            String etag = CacheSteuerung.etag("feiertage.ndjson", anfang.toEpochDay(), ende.toEpochDay(),
+                bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter von {} bis {}, Land {} als NDJSON", anfang, ende, bundesland);
+            StreamingResponseBody body = aus -> {
+                ObjectWriter writer = objectMapper.writerFor(FeiertagsDatum.class);
+                for (int jahr = anfang.getYear(); jahr <= ende.getYear(); jahr++) {
+                    LocalDate jahresAnfang = jahr == anfang.getYear() ? anfang : LocalDate.of(jahr, 1, 1);
+                    LocalDate jahresEnde = jahr == ende.getYear() ? ende : LocalDate.of(jahr, 12, 31);
+                    for (FeiertagsDatum feiertagsDatum : feiertage.getFeiertage(jahresAnfang, jahresEnde, bundesland)) {
+                        aus.write(writer.writeValueAsBytes(feiertagsDatum));
+                        aus.write('\n');
+                    }
+                }
+            };
+            return cacheSteuerung.ok(etag).contentType(MediaType.APPLICATION_NDJSON)
+                .varyBy(HttpHeaders.ACCEPT).body(body);
+        }
+
+        /**
+         * Mapping für die Url /feiertage mit <code>Accept: application/octet-stream</code>. Die Feiertage werden im
+         * kompakten Binärformat von {@link FeiertageBinaer} geliefert, ohne Land für alle Bundesländer mit der
+         * Bitmaske der Länder je Feiertag. Ein angegebenes, aber unbekanntes Land ergibt Status 400.
+         *
+         * @param von         Das Datum des ersten Tags des Bereichs.
+         * @param bis         Das Datum des zweiten Tags des Bereichs.
+         * @param land        Das Bundesland, optional.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Die Feiertage zwischen den beiden Tagen im Binärformat.
+         */
+        @GetMapping(value = "/feiertage", produces = FeiertageBinaer.MEDIENTYP)
+        public ResponseEntity<byte[]> feiertageBinaer(
+            @RequestParam final String von, @RequestParam final String bis,
+            @RequestParam(required = false) final String land,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            LocalDate anfang = DatumsParser.datum(von);
+            LocalDate ende = DatumsParser.datum(bis);
+            Land bundesland = land == null ? null : Land.ermittle(land);
+            String etag = CacheSteuerung.etag("feiertage.bin", anfang.toEpochDay(), ende.toEpochDay(),
+                bundesland == null ? 0 : bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter von {} bis {}, Land {} binär", anfang, ende, bundesland);
+            byte[] daten = FeiertageBinaer.kodiere(FeiertageBinaer.sammle(feiertage, anfang, ende, bundesland));
+            return cacheSteuerung.ok(etag).contentType(MediaType.APPLICATION_OCTET_STREAM).varyBy(HttpHeaders.ACCEPT)
+                .body(daten);
+        }
+
+        /**
+         * Mapping für die Url /feiertage.ics. Die Feiertage eines Landes werden als iCalendar-Datei geliefert, die
+         * Jahr für Jahr aus den zwischengespeicherten Blöcken des {@link IcsJahresCache} geschrieben wird. Ein
+         * Kalender umfasst höchstens {@link #MAX_ICS_JAHRE} Jahre.
+         *
+         * @param land        Das Bundesland.
+         * @param von         Das erste Jahr.
+         * @param bis         Das letzte Jahr.
+         * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+         *
+         * @return Der Kalender.
+         */
+        @GetMapping(value = "/feiertage.ics", produces = IcsJahresCache.MEDIENTYP)
+        public ResponseEntity<StreamingResponseBody> feiertageIcs(
+            @RequestParam final String land, @RequestParam final int von, @RequestParam final int bis,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+            Land bundesland = Land.ermittle(land);
+            if (von < Feiertage.ERSTES_JAHR || bis > Feiertage.LETZTES_JAHR || von > bis
+                || bis - von >= MAX_ICS_JAHRE) {
+                return ResponseEntity.badRequest().cacheControl(CacheControl.noStore()).build();
+            }
+            String etag = CacheSteuerung.etag("feiertage.ics", von, bis, bundesland.schluessel());
+            if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+                return cacheSteuerung.nichtGeaendert(etag);
+            }
+            log.debug("Request-Parameter iCalendar {} von {} bis {}", bundesland, von, bis);
+            StreamingResponseBody body = aus -> icsJahresCache.schreibe(von, bis, bundesland, aus);
+            return cacheSteuerung.ok(etag).contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                .body(body);
+        }
+
+        /**
+         * Mapping für die Url /werktage/plus. Ein Werktag nach einer Anzahl von Werktagen wird abgefragt.
+         *
+         * @param datum  Das Datum, ab dem gezählt wird.
+         * @param anzahl Die Anzahl der Werktage, höchstens {@link #MAX_WERKTAGE} im Betrag.
+         * @param land   Das Bundesland.
+         *
+         * @return Das Datum des gefundenen Werktags.
+         */
+        @GetMapping("/werktage/plus")
+        public LocalDate plusWerktage(
+            @RequestParam final String datum, @RequestParam final int anzahl, @RequestParam final String land) {
+            LocalDate tag = DatumsParser.datum(datum);
+            Land bundesland = Land.ermittle(land);
+            log.debug("Request-Parameter datum {} plus {} Werktage, Land {}", tag, anzahl, bundesland);
+            return werktage.plusWerktage(tag, pruefeAnzahl(anzahl), bundesland);
+        }
+
+        /**
+         * Mapping für die Url /werktage/minus. Ein Werktag vor einer Anzahl von Werktagen wird abgefragt.
+         *
+         * @param datum  Das Datum, ab dem zurückgezählt wird.
+         * @param anzahl Die Anzahl der Werktage, höchstens {@link #MAX_WERKTAGE} im Betrag.
+         * @param land   Das Bundesland.
+         *
+         * @return Das Datum des gefundenen Werktags.
+         */
+        @GetMapping("/werktage/minus")
+        public LocalDate minusWerktage(
+            @RequestParam final String datum, @RequestParam final int anzahl, @RequestParam final String land) {
+            LocalDate tag = DatumsParser.datum(datum);
+            Land bundesland = Land.ermittle(land);
+            log.debug("Request-Parameter datum {} minus {} Werktage, Land {}", tag, anzahl, bundesland);
+            return werktage.minusWerktage(tag, pruefeAnzahl(anzahl), bundesland);
+        }
+
+        /**
+         * Mapping für die Url /werktage/anzahl. Die Anzahl der Werktage in einem Zeitraum wird abgefragt.
+         *
+         * @param von  Das Datum des ersten Tags des Bereichs.
+         * @param bis  Das Datum des letzten Tags des Bereichs.
+         * @param land Das Bundesland.
+         *
+         * @return Die Anzahl der Werktage zwischen den beiden Tagen, einschließlich.
+         */
+        @GetMapping("/werktage/anzahl")
+        public int countWerktage(
+            @RequestParam final String von, @RequestParam final String bis, @RequestParam final String land) {
+            LocalDate anfang = DatumsParser.datum(von);
+            LocalDate ende = DatumsParser.datum(bis);
+            Land bundesland = Land.ermittle(land);
+            log.debug("Request-Parameter Werktage von {} bis {}, Land {}", anfang, ende, bundesland);
+            return werktage.countWerktage(anfang, ende, bundesland);
+        }
+
+        /**
+         * Überprüft die Anzahl der Werktage einer Anfrage.
+         *
+         * @param anzahl Die Anzahl.
+         *
+         * @return Die Anzahl.
+         *
+         * @throws UngueltigeAnzahlException Falls der Betrag größer als {@link #MAX_WERKTAGE} ist.
+         */
+        private static int pruefeAnzahl(final int anzahl) {
+            if (anzahl < -MAX_WERKTAGE || anzahl > MAX_WERKTAGE) {
+                throw new UngueltigeAnzahlException(Integer.toString(anzahl));
+            }
+            return anzahl;
+        }
+
+        /**
+         * Mapping für die Url /feiertag/stapel. Viele Tage werden in einer Anfrage abgefragt.
+         *
+         * <p>Der Body ist ein JSON-Array von Objekten mit <code>datum</code> und <code>land</code>. Die Ergebnisse
+         * werden in derselben Reihenfolge als JSON-Array geschrieben, während die Abfragen gelesen werden.
+         *
+         * @param request  Die Anfrage mit den Abfragen.
+         * @param response Die Antwort, in die die Ergebnisse geschrieben werden.
+         *
+         * @throws IOException Bei Fehlern beim Lesen oder Schreiben.
+         */
+        @PostMapping(value = "/feiertag/stapel", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public void stapel(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            int anzahl = stapelabfrage.verarbeite(request.getInputStream(), response.getOutputStream(), false);
+            log.debug("Stapelabfrage mit {} Einträgen", anzahl);
+        }
+
+        /**
+         * Mapping für die Url /feiertag/stapel mit NDJSON. Abfragen und Ergebnisse stehen jeweils in einer Zeile.
+         *
+         * @param request  Die Anfrage mit den Abfragen.
+         * @param response Die Antwort, in die die Ergebnisse geschrieben werden.
+         *
+         * @throws IOException Bei Fehlern beim Lesen oder Schreiben.
+         */
+        @PostMapping(value = "/feiertag/stapel", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+        public void stapelNdjson(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            int anzahl = stapelabfrage.verarbeite(request.getInputStream(), response.getOutputStream(), true);
+            log.debug("Stapelabfrage mit {} Einträgen", anzahl);
+        }
+    }
+}
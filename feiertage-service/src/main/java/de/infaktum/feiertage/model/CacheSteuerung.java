@@ -0,0 +1,130 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * ETags und Cache-Einstellungen für die Antworten der Controller.
+ *
+ * <p>Alle Antworten hängen nur von den Parametern und der Version der Feiertagsregeln ab. Sie tragen daher ein starkes
+ * ETag und dürfen <code>feiertage.http.max-age</code> lang (Standard 30 Tage) von beliebigen Caches gehalten werden.
+ * Die Controller prüfen ihre Parameter, bevor sie ein ETag erzeugen; Fehlerantworten werden von
+ * {@link Fehlerbehandlung} als nicht speicherbar gekennzeichnet.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+public class CacheSteuerung {
+    private final CacheControl cacheControl;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param maxAge Die Dauer, die eine Antwort in Caches gehalten werden darf.
+     */
+    public CacheSteuerung(@Value("${feiertage.http.max-age:30d}") final Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Erzeugt ein starkes ETag für eine Abfrage. Es hängt nur von der Version der Feiertagsregeln und den geprüften
+     * Parametern ab und kann daher ohne Zugriff auf die Feiertage berechnet werden. Die Parameter werden normalisiert
+     * übergeben, Tage als Epochentag und Länder als Schlüssel, sodass gleichwertige Schreibweisen wie <code>nw</code>
+     * und <code>NW</code> dasselbe ETag ergeben. Das ETag ist die kanonische Abfrage selbst, etwa
+     * <code>"3:feiertage:18993:19357:256"</code>, und nicht ein Hashwert davon; verschiedene Abfragen können daher
+     * nicht dasselbe ETag erhalten.
+     *
+     * @param abfrage Der Name der Abfrage.
+     * @param werte   Die normalisierten Parameter.
+     *
+     * @return Das ETag.
+     */
+    public static String etag(final String abfrage, final long... werte) {
+        StringBuilder etag = new StringBuilder().append('"').append(Feiertag.REGELVERSION).append(':').append(abfrage);
+        for (long wert : werte) {
+            etag.append(':').append(wert);
+        }
+        return etag.append('"').toString();
+    }
+
+    /**
+     * Überprüft, ob der Client die Antwort mit dem gegebenen ETag bereits hat. Der Platzhalter <code>*</code> passt
+     * nach RFC 7232 Abschnitt 3.2 auf jede vorhandene Antwort; die Controller rufen diese Methode erst nach der
+     * Prüfung der Parameter auf, wenn es also eine Antwort gibt.
+     *
+     * @param ifNoneMatch Der Header If-None-Match der Anfrage oder null.
+     * @param etag        Das ETag der Antwort.
+     *
+     * @return true, wenn die Antwort nicht erneut gesendet werden muss.
+     */
+    public static boolean isNichtGeaendert(final String ifNoneMatch, final String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String kandidat : ifNoneMatch.split(",")) {
+            String tag = kandidat.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert die Cache-Einstellungen für Antworten, die sich bis zur nächsten Regelversion nicht ändern.
+     *
+     * @return Die Cache-Einstellungen.
+     */
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Beginnt eine Antwort mit Status 200, ETag und Cache-Einstellungen.
+     *
+     * @param etag Das ETag der Antwort.
+     *
+     * @return Der Builder der Antwort.
+     */
+    public ResponseEntity.BodyBuilder ok(final String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl);
+    }
+
+    /**
+     * Liefert eine Antwort mit Status 304 (Not Modified) ohne Body.
+     *
+     * @param etag Das ETag der Antwort.
+     * @param <T>  Der Typ des Bodys.
+     *
+     * @return Die Antwort.
+     */
+    public <T> ResponseEntity<T> nichtGeaendert(final String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+}
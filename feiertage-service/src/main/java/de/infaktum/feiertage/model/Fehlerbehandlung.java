@@ -0,0 +1,57 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Gemeinsame Fehlerbehandlung von {@link Application.Controller} und {@link ReaktivController}.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@RestControllerAdvice
+public class Fehlerbehandlung {
+    private static final Logger log = LoggerFactory.getLogger(Fehlerbehandlung.class);
+
+    /**
+     * Beantwortet Anfragen mit ungültigem Datum, unbekanntem Land oder ungültiger Anzahl mit Status 400 (Bad Request)
+     * und einer Fehlermeldung. Die Antwort darf nicht zwischengespeichert werden.
+     *
+     * @param e Die Ausnahme des Parsers, der Suche nach dem Land oder der Prüfung der Anzahl.
+     *
+     * @return Die Antwort mit dem Feld <code>fehler</code>.
+     */
+    @ExceptionHandler({UngueltigesDatumException.class, UnbekanntesLandException.class,
+        UngueltigeAnzahlException.class})
+    public ResponseEntity<Map<String, String>> ungueltigeEingabe(final IllegalArgumentException e) {
+        log.debug(e.getMessage());
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noStore()).body(Map.of("fehler", e.getMessage()));
+    }
+}
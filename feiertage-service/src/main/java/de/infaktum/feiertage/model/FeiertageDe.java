@@ -0,0 +1,137 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Eine Standard-Implementierung für das deutsche Datumsformat, die alle Feiertage in der Datenbank speichert.
+ *
+ * <p>Wird mit <code>feiertage.backend=jpa</code> anstelle von {@link FeiertageIndex} verwendet. Mit
+ * <code>feiertage.lazy=true</code> wird ein Jahr erst bei der ersten Abfrage gespeichert.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "feiertage.backend", havingValue = "jpa")
+public class FeiertageDe extends FeiertageGenericImpl {
+    private static final Logger log = LoggerFactory.getLogger(FeiertageDe.class);
+
+    private final Set<Integer> gespeicherteJahre = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private FeiertagsDatumRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${feiertage.lazy:false}")
+    private boolean lazy;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchGroesse;
+
+    /**
+     * Initialisiert das System. Bis zum gegebenen Jahr werden alle FeiertagsDatums-Objekte erzeugt und in der Datenbank
+     * gespeichert, es sei denn, die Jahre sollen erst bei Bedarf gespeichert werden.
+     *
+     * @param endJahr Das letzte Jahr.
+     */
+    @Override
+    public void init(final int endJahr) {
+        if (lazy) {
+            log.info("Feiertage werden bei Bedarf gespeichert");
+            return;
+        }
+        speichere(1970, endJahr);
+    }
+
+    /**
+     * Speichert alle noch fehlenden Jahre eines Bereichs.
+     *
+     * @param vonJahr Das erste Jahr.
+     * @param bisJahr Das letzte Jahr.
+     */
+    @Override
+    protected void bereitstellen(final int vonJahr, final int bisJahr) {
+        for (int jahr = Math.max(vonJahr, ERSTES_JAHR); jahr <= Math.min(bisJahr, LETZTES_JAHR); jahr++) {
+            if (!gespeicherteJahre.contains(jahr)) {
+                speichere(jahr, bisJahr);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Speichert alle FeiertagsDatums-Objekte der noch fehlenden Jahre eines Bereichs in einer einzigen Transaktion.
+     * Hibernate fasst die Inserts zu JDBC-Batches zusammen; der Persistenz-Kontext wird nach jedem Batch geleert,
+     * damit auch große Bereiche mit wenig Speicher auskommen.
+     *
+     * @param vonJahr Das erste Jahr.
+     * @param bisJahr Das letzte Jahr.
+     */
+    private synchronized void speichere(final int vonJahr, final int bisJahr) {
+        long start = System.nanoTime();
+        List<Integer> jahre = new ArrayList<>();
+        Integer anzahl = transactionTemplate.execute(status -> {
+            int gespeichert = 0;
+            int seitFlush = 0;
+            for (int jahr = Math.max(vonJahr, ERSTES_JAHR); jahr <= Math.min(bisJahr, LETZTES_JAHR); jahr++) {
+                if (gespeicherteJahre.contains(jahr)) {
+                    continue;
+                }
+                List<FeiertagsDatum> feiertage = new ArrayList<>();
+                for (Feiertag feiertag : Feiertag.values()) {
+                    feiertage.add(new FeiertagsDatum(feiertag, jahr));
+                }
+                repository.saveAll(feiertage);
+                jahre.add(jahr);
+                gespeichert += feiertage.size();
+                seitFlush += feiertage.size();
+                if (seitFlush >= batchGroesse) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    seitFlush = 0;
+                }
+            }
+            return gespeichert;
+        });
+        gespeicherteJahre.addAll(jahre);
+        log.info("{} Feiertage von {} bis {} in {} ms gespeichert", anzahl, vonJahr, bisJahr,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+}
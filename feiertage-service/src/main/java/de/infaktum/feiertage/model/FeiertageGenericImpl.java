@@ -22,6 +22,7 @@ package de.infaktum.feiertage.model;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -37,6 +38,13 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 
 public abstract class FeiertageGenericImpl implements Feiertage {
+    /**
+     * Das Format der Datumsangaben als String.
+     *
+     * @deprecated Datumsangaben werden mit {@link DatumsParser} gelesen, der auch das ISO-Format versteht. Der
+     * Formatter bleibt nur für abgeleitete Klassen erhalten.
+     */
+    @Deprecated
     protected static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
     private static final Logger log = LoggerFactory.getLogger(FeiertageGenericImpl.class);
     @Autowired
@@ -66,11 +74,12 @@ public abstract class FeiertageGenericImpl implements Feiertage {
      */
     @Override
     public FeiertagsDatum getFeiertag(final String datum, final Land land) {
-        return getFeiertag(LocalDate.parse(datum, formatter), land);
+        return getFeiertag(DatumsParser.datum(datum), land);
     }
 
     /**
-     * Findet einen Feiertag durch das Datum.
+     * Findet einen Feiertag durch das Datum. Fallen mehrere Feiertage auf den Tag, wird der erste in der Reihenfolge
+     * von {@link Feiertag} geliefert.
      *
      * @param datum Das Datum.
      * @param land  Das Land.
@@ -79,15 +88,27 @@ public abstract class FeiertageGenericImpl implements Feiertage {
      */
     @Override
     public FeiertagsDatum getFeiertag(final LocalDate datum, final Land land) {
-        FeiertagsDatum feiertagsDatum = repository.findByDatum(datum);
-        log.debug("Gefundener Feiertag: {}", feiertagsDatum);
-        if (feiertagsDatum == null) {
-            return null;
-        }
-        List<FeiertagsDatum> feiertagsData = filter(List.of(feiertagsDatum), land);
+        List<FeiertagsDatum> feiertagsData = getFeiertageAm(datum, land);
         return feiertagsData.isEmpty() ? null : feiertagsData.get(0);
     }
 
+    /**
+     * Findet alle Feiertage an einem Tag.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return Die gefundenen Objekte in der Reihenfolge von {@link Feiertag}.
+     */
+    @Override
+    public List<FeiertagsDatum> getFeiertageAm(final LocalDate datum, final Land land) {
+        bereitstellen(datum.getYear(), datum.getYear());
+        List<FeiertagsDatum> feiertagsData = filter(repository.findByDatum(datum), land).stream()
+            .sorted(Comparator.comparing(FeiertagsDatum::getFeiertag)).collect(Collectors.toList());
+        log.debug("Gefundene Feiertage: {}", feiertagsData);
+        return feiertagsData;
+    }
+
     /**
      * Findet alle Feiertage in einem Zeitraum.
      *
@@ -100,6 +121,7 @@ public abstract class FeiertageGenericImpl implements Feiertage {
 
     @Override
     public List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land) {
+        bereitstellen(von.getYear(), bis.getYear());
         return filter(repository.findByDatumBetween(von, bis), land);
     }
 
@@ -114,7 +136,17 @@ public abstract class FeiertageGenericImpl implements Feiertage {
      */
     @Override
     public List<FeiertagsDatum> getFeiertage(final String von, final String bis, final Land land) {
-        return getFeiertage(LocalDate.parse(von, formatter), LocalDate.parse(bis, formatter), land);
+        return getFeiertage(DatumsParser.datum(von), DatumsParser.datum(bis), land);
+    }
+
+    /**
+     * Stellt sicher, dass die Feiertage der gegebenen Jahre im Repository vorhanden sind. Konkrete Implementierungen,
+     * die Jahre erst bei Bedarf speichern, überschreiben diese Methode.
+     *
+     * @param vonJahr Das erste Jahr.
+     * @param bisJahr Das letzte Jahr.
+     */
+    protected void bereitstellen(final int vonJahr, final int bisJahr) {
     }
 
     /**
@@ -126,6 +158,17 @@ public abstract class FeiertageGenericImpl implements Feiertage {
      * @return Alle Feiertage, die im Bundesland gültig sind.
      */
     private List<FeiertagsDatum> filter(final List<FeiertagsDatum> feiertagsData, final Land land) {
-        return feiertagsData.stream().filter(f -> f.getFeiertag().isFeiertagIn(land)).collect(Collectors.toList());
+        return feiertagsData.stream().filter(f -> f.getFeiertag().isFeiertagIn(land, f.getDatum().getYear()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Die Abfragen gehen an die Datenbank und blockieren.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isBlockierend() {
+        return true;
     }
 }
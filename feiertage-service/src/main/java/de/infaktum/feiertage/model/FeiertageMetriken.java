@@ -0,0 +1,147 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Arrays;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Metriken für die Feiertags-Abfragen.
+ *
+ * <p>Die Aufrufe von <code>init</code> und der Listen-Methoden <code>getFeiertage</code> und
+ * <code>getFeiertageAm</code> werden im Timer <code>feiertage.abfrage</code> gemessen, getrennt nach Backend (z.B.
+ * <code>FeiertageIndex</code> oder <code>FeiertageDe</code>) und Methode. <code>init</code> liefert so auch die Dauer
+ * der Initialisierung. Dazu wird das Backend in {@link GemesseneFeiertage} eingepackt und als primäre Bean
+ * bereitgestellt; die Bean des Backends selbst bleibt unverändert. Ein Aspekt ist dafür nicht geeignet: Der Proxy von
+ * Spring leitet jeden Aufruf durch seine Interceptor-Kette und verpackt die Argumente, auch für
+ * <code>isFeiertag(long, int)</code> und <code>feiertagsMaske</code>, die sonst ohne Objekte auskommen. Dazu kommen
+ * Zähler für die Oster-Tabelle und die Caches. Die Latenzen der REST-Schnittstelle misst Spring Boot selbst unter
+ * <code>http.server.requests</code>.
+ * </p>
+ *
+ * <p>Mit <code>feiertage.metriken=false</code> wird die Messung der Abfragen abgeschaltet; die Zähler bleiben.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "feiertage.metriken", havingValue = "true", matchIfMissing = true)
+public class FeiertageMetriken {
+    private static final String NAME = "gemesseneFeiertage";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param registry Die Registry für die Timer der Abfragen.
+     */
+    public FeiertageMetriken(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Stellt das konfigurierte Backend mit Messung der Abfragen bereit.
+     *
+     * @param beanFactory Die Bean-Factory, in der das Backend gesucht wird.
+     *
+     * @return Das gemessene Backend.
+     */
+    @Bean(NAME)
+    @Primary
+    public Feiertage gemesseneFeiertage(final ConfigurableListableBeanFactory beanFactory) {
+        String backend = Arrays.stream(beanFactory.getBeanNamesForType(Feiertage.class))
+            .filter(name -> !name.equals(NAME))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Kein Backend für die Feiertage konfiguriert"));
+        return new GemesseneFeiertage(beanFactory.getBean(backend, Feiertage.class), registry);
+    }
+
+    /**
+     * Die Zähler der Oster-Tabelle und der Caches.
+     */
+    @Component
+    public static class Zaehler implements MeterBinder {
+        private final JsonJahresCache jsonJahresCache;
+        private final IcsJahresCache icsJahresCache;
+
+        /**
+         * Erzeugt eine neue Instanz. Die Caches werden verzögert aufgelöst, denn sie brauchen die gemessenen
+         * Feiertage, die wiederum die Registry brauchen, an die diese Zähler gebunden werden.
+         *
+         * @param jsonJahresCache Der JSON-Cache, dessen Trefferquote gemessen wird.
+         * @param icsJahresCache  Der iCalendar-Cache, dessen Trefferquote gemessen wird.
+         */
+        public Zaehler(@Lazy final JsonJahresCache jsonJahresCache, @Lazy final IcsJahresCache icsJahresCache) {
+            this.jsonJahresCache = jsonJahresCache;
+            this.icsJahresCache = icsJahresCache;
+        }
+
+        /**
+         * Registriert die Zähler.
+         *
+         * @param meterRegistry Die Registry.
+         */
+        @Override
+        public void bindTo(final MeterRegistry meterRegistry) {
+            FunctionCounter.builder("feiertage.ostern", Ostern.class, x -> Ostern.tabellenTreffer())
+                .description("Abfragen des Ostersonntags")
+                .tag("ergebnis", "tabelle")
+                .register(meterRegistry);
+            FunctionCounter.builder("feiertage.ostern", Ostern.class, x -> Ostern.berechnungen())
+                .description("Abfragen des Ostersonntags")
+                .tag("ergebnis", "berechnet")
+                .register(meterRegistry);
+            FunctionCounter.builder("feiertage.json.cache", jsonJahresCache, JsonJahresCache::treffer)
+                .description("Zugriffe auf den JSON-Cache")
+                .tag("ergebnis", "treffer")
+                .register(meterRegistry);
+            FunctionCounter.builder("feiertage.json.cache", jsonJahresCache, JsonJahresCache::fehlgriffe)
+                .description("Zugriffe auf den JSON-Cache")
+                .tag("ergebnis", "fehlgriff")
+                .register(meterRegistry);
+            Gauge.builder("feiertage.json.cache.groesse", jsonJahresCache, JsonJahresCache::groesse)
+                .description("Anzahl der zwischengespeicherten Jahre")
+                .register(meterRegistry);
+            FunctionCounter.builder("feiertage.ics.cache", icsJahresCache, IcsJahresCache::treffer)
+                .description("Zugriffe auf den iCalendar-Cache")
+                .tag("ergebnis", "treffer")
+                .register(meterRegistry);
+            FunctionCounter.builder("feiertage.ics.cache", icsJahresCache, IcsJahresCache::fehlgriffe)
+                .description("Zugriffe auf den iCalendar-Cache")
+                .tag("ergebnis", "fehlgriff")
+                .register(meterRegistry);
+            Gauge.builder("feiertage.ics.cache.groesse", icsJahresCache, IcsJahresCache::groesse)
+                .description("Anzahl der zwischengespeicherten Jahre")
+                .register(meterRegistry);
+        }
+    }
+}
@@ -38,13 +38,13 @@ import org.springframework.data.repository.CrudRepository;
  */
 public interface FeiertagsDatumRepository extends CrudRepository<FeiertagsDatum, Long> {
     /**
-     * Findet einen Feiertag durch das Datum.
+     * Findet alle Feiertage an einem Datum. Fallen mehrere Feiertage auf einen Tag, werden alle geliefert.
      *
      * @param datum Das Datum.
      *
-     * @return Das gefundene Objekt.
+     * @return Die gefundenen Objekte.
      */
-    FeiertagsDatum findByDatum(final LocalDate datum);
+    List<FeiertagsDatum> findByDatum(final LocalDate datum);
 
     /**
      * Findet alle Feiertage in einem Zeitraum.
@@ -0,0 +1,148 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Misst die Aufrufe eines Backends im Timer <code>feiertage.abfrage</code>.
+ *
+ * <p>Gemessen werden <code>init</code> sowie die Listen-Methoden <code>getFeiertage</code> und
+ * <code>getFeiertageAm</code>. Die Timer werden beim Erzeugen registriert, ein Aufruf kostet so nur zwei Zugriffe auf
+ * {@link System#nanoTime()}. Die Einzelabfragen werden unverändert an das Backend weitergegeben und legen wie dort
+ * keine Objekte an.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+final class GemesseneFeiertage implements Feiertage {
+    private final Feiertage backend;
+    private final Timer init;
+    private final Timer getFeiertage;
+    private final Timer getFeiertageAm;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param backend  Das gemessene Backend.
+     * @param registry Die Registry für die Timer.
+     */
+    GemesseneFeiertage(final Feiertage backend, final MeterRegistry registry) {
+        this.backend = backend;
+        String name = AopUtils.getTargetClass(backend).getSimpleName();
+        this.init = timer(registry, name, "init");
+        this.getFeiertage = timer(registry, name, "getFeiertage");
+        this.getFeiertageAm = timer(registry, name, "getFeiertageAm");
+    }
+
+    private static Timer timer(final MeterRegistry registry, final String backend, final String methode) {
+        return Timer.builder("feiertage.abfrage")
+            .description("Dauer der Feiertags-Abfragen")
+            .tag("backend", backend)
+            .tag("methode", methode)
+            .register(registry);
+    }
+
+    /**
+     * Liefert das gemessene Backend.
+     *
+     * @return Das Backend.
+     */
+    Feiertage backend() {
+        return backend;
+    }
+
+    @Override
+    public void init(final int endJahr) {
+        long start = System.nanoTime();
+        try {
+            backend.init(endJahr);
+        } finally {
+            init.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land) {
+        long start = System.nanoTime();
+        try {
+            return backend.getFeiertage(von, bis, land);
+        } finally {
+            getFeiertage.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<FeiertagsDatum> getFeiertage(final String von, final String bis, final Land land) {
+        long start = System.nanoTime();
+        try {
+            return backend.getFeiertage(von, bis, land);
+        } finally {
+            getFeiertage.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<FeiertagsDatum> getFeiertageAm(final LocalDate datum, final Land land) {
+        long start = System.nanoTime();
+        try {
+            return backend.getFeiertageAm(datum, land);
+        } finally {
+            getFeiertageAm.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean isFeiertag(final LocalDate datum, final Land land) {
+        return backend.isFeiertag(datum, land);
+    }
+
+    @Override
+    public FeiertagsDatum getFeiertag(final String datum, final Land land) {
+        return backend.getFeiertag(datum, land);
+    }
+
+    @Override
+    public FeiertagsDatum getFeiertag(final LocalDate datum, final Land land) {
+        return backend.getFeiertag(datum, land);
+    }
+
+    @Override
+    public boolean isFeiertag(final long epochTag, final int landSchluessel) {
+        return backend.isFeiertag(epochTag, landSchluessel);
+    }
+
+    @Override
+    public int feiertagsMaske(final long epochTag) {
+        return backend.feiertagsMaske(epochTag);
+    }
+
+    @Override
+    public boolean isBlockierend() {
+        return backend.isBlockierend();
+    }
+}
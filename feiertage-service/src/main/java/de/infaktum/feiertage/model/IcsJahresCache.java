@@ -0,0 +1,190 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Erzeugt iCalendar-Dateien (RFC 5545) mit den Feiertagen eines Landes.
+ *
+ * <p>Für jedes Paar aus Jahr und Land werden die <code>VEVENT</code>-Blöcke einmal erzeugt und zwischengespeichert,
+ * sodass auch häufig abgerufene Kalender-Abonnements nur noch Bytes kopieren. {@link #schreibe} schreibt den Kalender
+ * Jahr für Jahr in einen Stream, ohne das ganze Dokument im Speicher aufzubauen. Die Anzahl der Einträge ist durch
+ * <code>feiertage.ics-cache.groesse</code> begrenzt; die am längsten nicht verwendeten Einträge werden verdrängt.
+ * Wie bei {@link JsonJahresCache} werden Bereiche, die größer als der Cache sind, ohne Eintragung geschrieben.
+ * </p>
+ *
+ * <p>Alle Inhalte hängen nur von Jahr, Land und der Regelversion ab, sodass derselbe Kalender immer dieselben Bytes
+ * hat. <code>SEQUENCE</code> ist die {@link Feiertag#REGELVERSION}, <code>DTSTAMP</code> der Tag
+ * {@link Feiertag#REGELVERSION} ab dem 1. Januar 2022. Beide steigen mit jeder neuen Regelversion, sodass
+ * Kalenderprogramme geänderte Termine als neuer erkennen.
+ * </p>
+ */
+@Component
+public class IcsJahresCache {
+    /**
+     * Der Medientyp von iCalendar.
+     */
+    public static final String MEDIENTYP = "text/calendar";
+
+    private static final DateTimeFormatter datumsformat = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String DTSTAMP = LocalDate.of(2022, 1, 1).plusDays(Feiertag.REGELVERSION - 1)
+        .format(datumsformat) + "T000000Z";
+
+    private final Feiertage feiertage;
+    private final JahresCache<byte[]> cache;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param feiertage Die Feiertage.
+     * @param groesse   Die maximale Anzahl zwischengespeicherter Jahre.
+     */
+    public IcsJahresCache(final Feiertage feiertage, @Value("${feiertage.ics-cache.groesse:4096}") final int groesse) {
+        this.feiertage = feiertage;
+        this.cache = new JahresCache<>(groesse, this::erzeuge);
+    }
+
+    /**
+     * Schreibt den Kalender eines Landes für einen Bereich von Jahren.
+     *
+     * @param vonJahr Das erste Jahr.
+     * @param bisJahr Das letzte Jahr.
+     * @param land    Das Land.
+     * @param aus     Der Stream, in den der Kalender geschrieben wird.
+     *
+     * @throws IOException Bei Fehlern beim Schreiben.
+     */
+    public void schreibe(final int vonJahr, final int bisJahr, final Land land, final OutputStream aus)
+        throws IOException {
+        ByteArrayOutputStream kopf = new ByteArrayOutputStream();
+        zeile(kopf, "BEGIN:VCALENDAR");
+        zeile(kopf, "VERSION:2.0");
+        zeile(kopf, "PRODID:-//infaktum//Feiertage " + Feiertag.REGELVERSION + "//DE");
+        zeile(kopf, "CALSCALE:GREGORIAN");
+        zeile(kopf, "METHOD:PUBLISH");
+        zeile(kopf, "X-WR-CALNAME:" + text("Feiertage " + land.bezeichnung()));
+        kopf.writeTo(aus);
+        boolean eintragen = cache.passt((long) bisJahr - vonJahr + 1);
+        for (int jahr = vonJahr; jahr <= bisJahr; jahr++) {
+            aus.write(cache.hole(jahr, land, eintragen));
+        }
+        aus.write("END:VCALENDAR\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Liefert die Anzahl der Jahre, die aus dem Cache geliefert wurden.
+     *
+     * @return Die Anzahl der Treffer.
+     */
+    public long treffer() {
+        return cache.treffer();
+    }
+
+    /**
+     * Liefert die Anzahl der Jahre, die erzeugt werden mussten.
+     *
+     * @return Die Anzahl der Fehlgriffe.
+     */
+    public long fehlgriffe() {
+        return cache.fehlgriffe();
+    }
+
+    /**
+     * Liefert die Anzahl der zwischengespeicherten Jahre.
+     *
+     * @return Die Anzahl der Einträge.
+     */
+    public int groesse() {
+        return cache.groesse();
+    }
+
+    /**
+     * Erzeugt die <code>VEVENT</code>-Blöcke eines Jahres. Feiertage sind ganztägige Termine, die nicht als belegt
+     * gelten.
+     *
+     * @param jahr Das Jahr.
+     * @param land Das Land.
+     *
+     * @return Die Blöcke als UTF-8.
+     */
+    private byte[] erzeuge(final int jahr, final Land land) {
+        List<FeiertagsDatum> feiertageImJahr = feiertage.getFeiertage(LocalDate.of(jahr, 1, 1),
+            LocalDate.of(jahr, 12, 31), land);
+        ByteArrayOutputStream aus = new ByteArrayOutputStream(256 * feiertageImJahr.size());
+        for (FeiertagsDatum feiertagsDatum : feiertageImJahr) {
+            LocalDate datum = feiertagsDatum.getDatum();
+            zeile(aus, "BEGIN:VEVENT");
+            zeile(aus, "UID:" + datum.format(datumsformat) + "-" + feiertagsDatum.getFeiertag().name() + "-"
+                + land.kuerzel() + "@feiertage.infaktum.de");
+            zeile(aus, "DTSTAMP:" + DTSTAMP);
+            zeile(aus, "SEQUENCE:" + Feiertag.REGELVERSION);
+            zeile(aus, "DTSTART;VALUE=DATE:" + datum.format(datumsformat));
+            zeile(aus, "DTEND;VALUE=DATE:" + datum.plusDays(1).format(datumsformat));
+            zeile(aus, "SUMMARY:" + text(feiertagsDatum.getName()));
+            zeile(aus, "CATEGORIES:Feiertag");
+            zeile(aus, "TRANSP:TRANSPARENT");
+            zeile(aus, "END:VEVENT");
+        }
+        return aus.toByteArray();
+    }
+
+    /**
+     * Maskiert Sonderzeichen in Textwerten nach RFC 5545, Abschnitt 3.3.11.
+     */
+    private static String text(final String wert) {
+        return wert.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    /**
+     * Schreibt eine Inhaltszeile mit CRLF. Zeilen über 75 Bytes werden nach RFC 5545, Abschnitt 3.1, umbrochen, ohne
+     * ein UTF-8-Zeichen zu teilen.
+     */
+    private static void zeile(final ByteArrayOutputStream aus, final String zeile) {
+        byte[] bytes = zeile.getBytes(StandardCharsets.UTF_8);
+        int anfang = 0;
+        int laenge = 75;
+        while (bytes.length - anfang > laenge) {
+            int ende = anfang + laenge;
+            while ((bytes[ende] & 0xC0) == 0x80) {
+                ende--;
+            }
+            aus.write(bytes, anfang, ende - anfang);
+            aus.write('\r');
+            aus.write('\n');
+            aus.write(' ');
+            anfang = ende;
+            laenge = 74;
+        }
+        aus.write(bytes, anfang, bytes.length - anfang);
+        aus.write('\r');
+        aus.write('\n');
+    }
+}
@@ -0,0 +1,161 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein LRU-Cache für Werte, die nur von Jahr und Land abhängen, mit Zählern für Treffer und Fehlgriffe. Er wird von
+ * {@link JsonJahresCache} und {@link IcsJahresCache} für ihre vorab serialisierten Jahre verwendet.
+ *
+ * <p>Die Anzahl der Einträge ist begrenzt; die am längsten nicht verwendeten Einträge werden verdrängt. Fehlende
+ * Werte werden außerhalb der Sperre erzeugt, sodass gleichzeitige Fehlgriffe auf dasselbe Jahr den Wert doppelt
+ * erzeugen können, aber nie aufeinander warten.
+ * </p>
+ *
+ * @param <T> Der Typ der Werte.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+final class JahresCache<T> {
+    private final Map<Schluessel, T> eintraege;
+    private final int kapazitaet;
+    private final Erzeuger<T> erzeuger;
+    private final LongAdder treffer = new LongAdder();
+    private final LongAdder fehlgriffe = new LongAdder();
+
+    /**
+     * Erzeugt einen leeren Cache.
+     *
+     * @param kapazitaet Die maximale Anzahl der Einträge.
+     * @param erzeuger   Erzeugt den Wert eines Jahres, wenn er nicht im Cache ist.
+     */
+    JahresCache(final int kapazitaet, final Erzeuger<T> erzeuger) {
+        this.kapazitaet = kapazitaet;
+        this.erzeuger = erzeuger;
+        this.eintraege = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Schluessel, T> eldest) {
+                return size() > kapazitaet;
+            }
+        };
+    }
+
+    /**
+     * Liefert den Wert eines Jahres und erzeugt ihn bei Bedarf.
+     *
+     * @param jahr      Das Jahr.
+     * @param land      Das Land.
+     * @param eintragen true, wenn ein erzeugter Wert in den Cache eingetragen werden soll.
+     *
+     * @return Der Wert.
+     */
+    T hole(final int jahr, final Land land, final boolean eintragen) {
+        Schluessel schluessel = new Schluessel(jahr, land);
+        T wert;
+        synchronized (eintraege) {
+            wert = eintraege.get(schluessel);
+        }
+        if (wert != null) {
+            treffer.increment();
+            return wert;
+        }
+        fehlgriffe.increment();
+        wert = erzeuger.erzeuge(jahr, land);
+        if (eintragen) {
+            synchronized (eintraege) {
+                eintraege.put(schluessel, wert);
+            }
+        }
+        return wert;
+    }
+
+    /**
+     * Überprüft, ob ein Bereich von Jahren eingetragen werden kann, ohne dass er seine eigenen Einträge verdrängt.
+     *
+     * @param jahre Die Anzahl der Jahre.
+     *
+     * @return true, wenn der Bereich in den Cache passt.
+     */
+    boolean passt(final long jahre) {
+        return jahre <= kapazitaet;
+    }
+
+    /**
+     * Liefert die Anzahl der Werte, die aus dem Cache geliefert wurden.
+     *
+     * @return Die Anzahl der Treffer.
+     */
+    long treffer() {
+        return treffer.sum();
+    }
+
+    /**
+     * Liefert die Anzahl der Werte, die erzeugt werden mussten.
+     *
+     * @return Die Anzahl der Fehlgriffe.
+     */
+    long fehlgriffe() {
+        return fehlgriffe.sum();
+    }
+
+    /**
+     * Liefert die Anzahl der Einträge.
+     *
+     * @return Die Anzahl der Einträge.
+     */
+    int groesse() {
+        synchronized (eintraege) {
+            return eintraege.size();
+        }
+    }
+
+    /**
+     * Erzeugt den Wert eines Jahres.
+     *
+     * @param <T> Der Typ der Werte.
+     */
+    @FunctionalInterface
+    interface Erzeuger<T> {
+
+        /**
+         * Erzeugt den Wert eines Jahres.
+         *
+         * @param jahr Das Jahr.
+         * @param land Das Land.
+         *
+         * @return Der Wert.
+         */
+        T erzeuge(int jahr, Land land);
+    }
+
+    /**
+     * Der Schlüssel eines Eintrags.
+     *
+     * @param jahr Das Jahr.
+     * @param land Das Land.
+     */
+    private record Schluessel(int jahr, Land land) {
+    }
+}
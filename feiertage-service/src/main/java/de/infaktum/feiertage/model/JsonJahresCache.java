@@ -0,0 +1,180 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache für die fertig serialisierten JSON-Antworten von <code>/feiertage</code>.
+ *
+ * <p>Für jedes Paar aus Jahr und Land werden die Feiertage einmal mit dem ObjectMapper des Services serialisiert.
+ * Eine Abfrage über genau ein Jahr wird mit dem zwischengespeicherten Byte-Array beantwortet, beliebige Zeiträume
+ * durch Aneinanderhängen der einzelnen Feiertage. Die Anzahl der Einträge ist durch
+ * <code>feiertage.json-cache.groesse</code> begrenzt; die am längsten nicht verwendeten Einträge werden verdrängt.
+ * Zeiträume mit mehr Jahren als Einträgen werden ohne Eintragung der fehlenden Jahre beantwortet, damit eine
+ * einzelne Abfrage nicht den ganzen Cache verdrängt. Jahre außerhalb von {@link Feiertage#ERSTES_JAHR} bis
+ * {@link Feiertage#LETZTES_JAHR} haben keine Feiertage und werden nicht eingetragen.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+public class JsonJahresCache {
+    private static final byte[] LEER = {'[', ']'};
+    private final Feiertage feiertage;
+    private final ObjectWriter writer;
+    private final JahresCache<JsonJahr> cache;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param feiertage    Die Feiertage.
+     * @param objectMapper Der ObjectMapper, mit dem auch alle anderen Antworten serialisiert werden.
+     * @param groesse      Die maximale Anzahl zwischengespeicherter Jahre.
+     */
+    public JsonJahresCache(final Feiertage feiertage, final ObjectMapper objectMapper,
+                           @Value("${feiertage.json-cache.groesse:4096}") final int groesse) {
+        this.feiertage = feiertage;
+        this.writer = objectMapper.writerFor(FeiertagsDatum.class);
+        this.cache = new JahresCache<>(groesse, this::serialisiere);
+    }
+
+    /**
+     * Liefert die Feiertage eines Zeitraums als JSON-Array.
+     *
+     * @param von  Das Anfangs-Datum.
+     * @param bis  Das End-Datum.
+     * @param land Das Land.
+     *
+     * @return Das JSON-Array als UTF-8.
+     */
+    public byte[] json(final LocalDate von, final LocalDate bis, final Land land) {
+        Objects.requireNonNull(land, "land");
+        int erstesJahr = Math.max(von.getYear(), Feiertage.ERSTES_JAHR);
+        int letztesJahr = Math.min(bis.getYear(), Feiertage.LETZTES_JAHR);
+        if (erstesJahr > letztesJahr || von.isAfter(bis)) {
+            return LEER;
+        }
+        if (von.getYear() == bis.getYear() && von.getDayOfYear() == 1
+            && bis.getDayOfYear() == bis.lengthOfYear()) {
+            return cache.hole(von.getYear(), land, true).json();
+        }
+        boolean eintragen = cache.passt(letztesJahr - erstesJahr + 1);
+        ByteArrayOutputStream aus = new ByteArrayOutputStream();
+        aus.write('[');
+        boolean erster = true;
+        long anfang = von.toEpochDay();
+        long ende = bis.toEpochDay();
+        for (int i = erstesJahr; i <= letztesJahr; i++) {
+            JsonJahr jahr = cache.hole(i, land, eintragen);
+            long[] tage = jahr.tage();
+            for (int j = 0; j < tage.length; j++) {
+                if (tage[j] >= anfang && tage[j] <= ende) {
+                    if (!erster) {
+                        aus.write(',');
+                    }
+                    aus.writeBytes(jahr.elemente()[j]);
+                    erster = false;
+                }
+            }
+        }
+        aus.write(']');
+        return aus.toByteArray();
+    }
+
+    /**
+     * Liefert die Anzahl der Jahre, die aus dem Cache geliefert wurden.
+     *
+     * @return Die Anzahl der Treffer.
+     */
+    public long treffer() {
+        return cache.treffer();
+    }
+
+    /**
+     * Liefert die Anzahl der Jahre, die serialisiert werden mussten.
+     *
+     * @return Die Anzahl der Fehlgriffe.
+     */
+    public long fehlgriffe() {
+        return cache.fehlgriffe();
+    }
+
+    /**
+     * Liefert die Anzahl der zwischengespeicherten Jahre.
+     *
+     * @return Die Anzahl der Einträge.
+     */
+    public int groesse() {
+        return cache.groesse();
+    }
+
+    /**
+     * Serialisiert die Feiertage eines Jahres.
+     *
+     * @param jahr Das Jahr.
+     * @param land Das Land.
+     *
+     * @return Die serialisierten Feiertage.
+     */
+    private JsonJahr serialisiere(final int jahr, final Land land) {
+        List<FeiertagsDatum> feiertageImJahr = feiertage.getFeiertage(LocalDate.of(jahr, 1, 1),
+            LocalDate.of(jahr, 12, 31), land);
+        long[] tage = new long[feiertageImJahr.size()];
+        byte[][] elemente = new byte[feiertageImJahr.size()][];
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.write('[');
+        try {
+            for (int i = 0; i < tage.length; i++) {
+                tage[i] = feiertageImJahr.get(i).getDatum().toEpochDay();
+                elemente[i] = writer.writeValueAsBytes(feiertageImJahr.get(i));
+                if (i > 0) {
+                    json.write(',');
+                }
+                json.writeBytes(elemente[i]);
+            }
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        json.write(']');
+        return new JsonJahr(tage, elemente, json.toByteArray());
+    }
+
+    /**
+     * Die serialisierten Feiertage eines Jahres in einem Land.
+     *
+     * @param tage     Die Daten der Feiertage als Epochentage.
+     * @param elemente Die einzelnen Feiertage als JSON.
+     * @param json     Das ganze Jahr als JSON-Array.
+     */
+    private record JsonJahr(long[] tage, byte[][] elemente, byte[] json) {
+    }
+}
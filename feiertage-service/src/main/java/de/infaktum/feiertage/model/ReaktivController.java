@@ -0,0 +1,220 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reaktive Variante von <code>/feiertag</code> und <code>/feiertage</code> unter <code>/reaktiv</code>.
+ *
+ * <p>Die Antworten sind {@link Mono} bzw. {@link Flux}. Blockiert das Backend nicht (siehe
+ * {@link Feiertage#isBlockierend()}), etwa der {@link FeiertageIndex}, werden die Abfragen direkt beim Abonnieren
+ * beantwortet. Die Abfragen des JPA-Backends laufen dagegen auf einem begrenzten Scheduler mit
+ * <code>feiertage.reaktiv.threads</code> Threads (Standard 10, wie der Verbindungspool) und höchstens
+ * <code>feiertage.reaktiv.warteschlange</code> wartenden Abfragen (Standard 1000), sodass kein Thread des Aufrufers
+ * auf die Datenbank wartet.
+ * </p>
+ *
+ * <p>Zeiträume werden Jahr für Jahr abgefragt. Ein Jahr wird erst abgefragt, wenn der Abnehmer die Feiertage des
+ * vorigen Jahres angefordert hat; mit <code>Accept: application/x-ndjson</code> wird so jeder Feiertag geschrieben,
+ * sobald der Client ihn abnimmt, ohne den ganzen Zeitraum als Liste aufzubauen.
+ * </p>
+ *
+ * <p>Parameter, ETags und Cache-Einstellungen werden wie bei {@link Application.Controller} behandelt: ungültige
+ * Daten und unbekannte Länder ergeben vor jeder Abfrage Status 400 (siehe {@link Fehlerbehandlung}), gültige
+ * Antworten tragen ein ETag aus {@link CacheSteuerung}.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/reaktiv")
+public class ReaktivController {
+    private static final Logger log = LoggerFactory.getLogger(ReaktivController.class);
+
+    private final Feiertage feiertage;
+    private final CacheSteuerung cacheSteuerung;
+    private final Scheduler scheduler;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param feiertage      Das Backend.
+     * @param cacheSteuerung ETags und Cache-Einstellungen der Antworten.
+     * @param threads        Die Anzahl der Threads für blockierende Abfragen.
+     * @param warteschlange  Die maximale Anzahl wartender blockierender Abfragen.
+     */
+    public ReaktivController(final Feiertage feiertage, final CacheSteuerung cacheSteuerung,
+                             @Value("${feiertage.reaktiv.threads:10}") final int threads,
+                             @Value("${feiertage.reaktiv.warteschlange:1000}") final int warteschlange) {
+        this.feiertage = feiertage;
+        this.cacheSteuerung = cacheSteuerung;
+        this.scheduler = feiertage.isBlockierend()
+            ? Schedulers.newBoundedElastic(threads, warteschlange, "feiertage-reaktiv") : null;
+    }
+
+    /**
+     * Gibt die Threads für blockierende Abfragen frei.
+     */
+    @PreDestroy
+    public void beende() {
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    /**
+     * Führt eine Abfrage beim Abonnieren aus, für blockierende Backends auf dem Scheduler.
+     *
+     * @param abfrage Die Abfrage.
+     * @param <T>     Der Typ des Ergebnisses.
+     *
+     * @return Das Ergebnis, leer wenn die Abfrage null liefert.
+     */
+    private <T> Mono<T> abfrage(final Callable<T> abfrage) {
+        Mono<T> mono = Mono.fromCallable(abfrage);
+        return scheduler == null ? mono : mono.subscribeOn(scheduler);
+    }
+
+    /**
+     * Mapping für die Url /reaktiv/feiertag. Ein einzelner Tag wird abgefragt.
+     *
+     * @param datum       Das Datum des abgefragten Feiertags.
+     * @param land        Das Bundesland.
+     * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+     *
+     * @return Informationen über den Tag als Feiertag, leer wenn der Tag kein Feiertag ist.
+     */
+    @GetMapping("/feiertag")
+    public ResponseEntity<Mono<FeiertagsDatum>> feiertag(
+        @RequestParam final String datum, @RequestParam final String land,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        LocalDate tag = DatumsParser.datum(datum);
+        Land bundesland = Land.ermittle(land);
+        String etag = CacheSteuerung.etag("reaktiv.feiertag", tag.toEpochDay(), bundesland.schluessel());
+        if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+            return cacheSteuerung.nichtGeaendert(etag);
+        }
+        log.debug("Reaktive Abfrage datum {}, Land {}", tag, bundesland);
+        return cacheSteuerung.ok(etag).body(abfrage(() -> feiertage.getFeiertag(tag, bundesland)));
+    }
+
+    /**
+     * Mapping für die Url /reaktiv/feiertage. Alle Feiertage eines Zeitraums werden Jahr für Jahr abgefragt und als
+     * JSON-Array geliefert.
+     *
+     * @param von         Das Datum des ersten Tags des Bereichs.
+     * @param bis         Das Datum des zweiten Tags des Bereichs.
+     * @param land        Das Bundesland.
+     * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+     *
+     * @return Die Feiertage zwischen den beiden Tagen.
+     */
+    @GetMapping(value = "/feiertage", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<FeiertagsDatum>> feiertage(
+        @RequestParam final String von, @RequestParam final String bis, @RequestParam final String land,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        return zeitraum("reaktiv.feiertage", von, bis, land, ifNoneMatch);
+    }
+
+    /**
+     * Mapping für die Url /reaktiv/feiertage mit <code>Accept: application/x-ndjson</code>. Jeder Feiertag wird als
+     * eigene Zeile geschrieben, sobald der Client ihn abnimmt.
+     *
+     * @param von         Das Datum des ersten Tags des Bereichs.
+     * @param bis         Das Datum des zweiten Tags des Bereichs.
+     * @param land        Das Bundesland.
+     * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+     *
+     * @return Die Feiertage zwischen den beiden Tagen.
+     */
+    @GetMapping(value = "/feiertage", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<FeiertagsDatum>> feiertageNdjson(
+        @RequestParam final String von, @RequestParam final String bis, @RequestParam final String land,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        return zeitraum("reaktiv.feiertage.ndjson", von, bis, land, ifNoneMatch);
+    }
+
+    /**
+     * Prüft die Parameter einer Abfrage über einen Zeitraum und fragt die Feiertage Jahr für Jahr ab.
+     *
+     * @param abfrage     Der Name der Abfrage für das ETag.
+     * @param von         Das Datum des ersten Tags des Bereichs.
+     * @param bis         Das Datum des zweiten Tags des Bereichs.
+     * @param land        Das Bundesland.
+     * @param ifNoneMatch Das ETag einer bereits vorliegenden Antwort.
+     *
+     * @return Die Feiertage zwischen den beiden Tagen.
+     */
+    private ResponseEntity<Flux<FeiertagsDatum>> zeitraum(final String abfrage, final String von, final String bis,
+                                                          final String land, final String ifNoneMatch) {
+        LocalDate anfang = DatumsParser.datum(von);
+        LocalDate ende = DatumsParser.datum(bis);
+        Land bundesland = Land.ermittle(land);
+        String etag = CacheSteuerung.etag(abfrage, anfang.toEpochDay(), ende.toEpochDay(), bundesland.schluessel());
+        if (CacheSteuerung.isNichtGeaendert(ifNoneMatch, etag)) {
+            return cacheSteuerung.nichtGeaendert(etag);
+        }
+        log.debug("Reaktive Abfrage von {} bis {}, Land {}", anfang, ende, bundesland);
+        if (anfang.isAfter(ende)) {
+            return cacheSteuerung.ok(etag).varyBy(HttpHeaders.ACCEPT).body(Flux.empty());
+        }
+        Flux<FeiertagsDatum> flux = Flux.range(anfang.getYear(), ende.getYear() - anfang.getYear() + 1)
+            .concatMap(jahr -> abfrage(() -> jahr(jahr, anfang, ende, bundesland)).flatMapIterable(f -> f), 1);
+        return cacheSteuerung.ok(etag).varyBy(HttpHeaders.ACCEPT).body(flux);
+    }
+
+    /**
+     * Fragt die Feiertage eines Jahres innerhalb eines Zeitraums ab.
+     *
+     * @param jahr   Das Jahr.
+     * @param anfang Der erste Tag des Zeitraums.
+     * @param ende   Der letzte Tag des Zeitraums.
+     * @param land   Das Bundesland.
+     *
+     * @return Die Feiertage des Jahres im Zeitraum.
+     */
+    private List<FeiertagsDatum> jahr(final int jahr, final LocalDate anfang, final LocalDate ende, final Land land) {
+        LocalDate jahresAnfang = jahr == anfang.getYear() ? anfang : LocalDate.of(jahr, 1, 1);
+        LocalDate jahresEnde = jahr == ende.getYear() ? ende : LocalDate.of(jahr, 12, 31);
+        return feiertage.getFeiertage(jahresAnfang, jahresEnde, land);
+    }
+}
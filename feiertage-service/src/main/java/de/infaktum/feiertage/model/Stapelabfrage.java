@@ -0,0 +1,149 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Beantwortet viele Abfragen der Form (Datum, Land) in einem Durchgang.
+ *
+ * <p>Die Abfragen werden als JSON-Array oder als NDJSON (ein Objekt pro Zeile) gelesen, etwa
+ * <code>{"datum":"01.05.2022","land":"NW"}</code>. Für jede Abfrage wird in derselben Reihenfolge ein Ergebnis
+ * geschrieben, sobald sie gelesen wurde. Weder die Abfragen noch die Ergebnisse werden gesammelt, sodass der
+ * Speicherbedarf unabhängig von der Anzahl der Abfragen ist.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+public class Stapelabfrage {
+    private final Feiertage feiertage;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param feiertage    Die Feiertage.
+     * @param objectMapper Der ObjectMapper, dessen Konfiguration für Parser und Generator verwendet wird.
+     */
+    public Stapelabfrage(final Feiertage feiertage, final ObjectMapper objectMapper) {
+        this.feiertage = feiertage;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Liest alle Abfragen und schreibt die Ergebnisse.
+     *
+     * @param ein    Die Abfragen als JSON-Array oder NDJSON.
+     * @param aus    Der Strom für die Ergebnisse.
+     * @param ndjson true, wenn die Ergebnisse als NDJSON statt als JSON-Array geschrieben werden sollen.
+     *
+     * @return Die Anzahl der bearbeiteten Abfragen.
+     *
+     * @throws IOException Bei Fehlern beim Lesen oder Schreiben.
+     */
+    public int verarbeite(final InputStream ein, final OutputStream aus, final boolean ndjson) throws IOException {
+        int anzahl = 0;
+        try (JsonParser parser = jsonFactory.createParser(ein);
+             JsonGenerator generator = jsonFactory.createGenerator(aus)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            while (token == JsonToken.START_OBJECT) {
+                beantworte(parser, generator);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                anzahl++;
+                token = parser.nextToken();
+            }
+            if (array && token != JsonToken.END_ARRAY || !array && token != null) {
+                throw new IOException("Unerwartetes Element " + token + " in Zeile "
+                    + parser.getCurrentLocation().getLineNr());
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+        return anzahl;
+    }
+
+    /**
+     * Liest eine Abfrage und schreibt ihr Ergebnis.
+     *
+     * @param parser    Der Parser, positioniert auf dem Beginn des Objekts.
+     * @param generator Der Generator für das Ergebnis.
+     *
+     * @throws IOException Bei Fehlern beim Lesen oder Schreiben.
+     */
+    private void beantworte(final JsonParser parser, final JsonGenerator generator) throws IOException {
+        String datum = null;
+        String kuerzel = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String feld = parser.getCurrentName();
+            parser.nextToken();
+            if ("datum".equals(feld)) {
+                datum = parser.getValueAsString();
+            } else if ("land".equals(feld)) {
+                kuerzel = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        generator.writeStartObject();
+        generator.writeStringField("datum", datum);
+        generator.writeStringField("land", kuerzel);
+        Land land = kuerzel == null ? null : Land.getlandByKuerzel(kuerzel);
+        if (land == null) {
+            generator.writeStringField("fehler", "Unbekanntes Land");
+        } else if (datum == null) {
+            generator.writeStringField("fehler", "Kein Datum");
+        } else {
+            try {
+                FeiertagsDatum feiertag = feiertage.getFeiertag(DatumsParser.datum(datum), land);
+                generator.writeBooleanField("feiertag", feiertag != null);
+                if (feiertag != null) {
+                    generator.writeStringField("name", feiertag.getName());
+                }
+            } catch (UngueltigesDatumException e) {
+                generator.writeStringField("fehler", "Ungültiges Datum");
+            }
+        }
+        generator.writeEndObject();
+    }
+}
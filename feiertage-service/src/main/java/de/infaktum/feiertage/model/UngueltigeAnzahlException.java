@@ -0,0 +1,49 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+/**
+ * Wird geworfen, wenn eine Anzahl von Werktagen außerhalb des zulässigen Bereichs liegt oder das Ergebnis außerhalb
+ * der Jahre {@link Feiertage#ERSTES_JAHR} bis {@link Feiertage#LETZTES_JAHR} läge, oder wenn eine Abfrage zu viele
+ * Jahre umfasst.
+ *
+ * <p>Wie {@link UngueltigesDatumException} beschreibt die Ausnahme eine fehlerhafte Eingabe und trägt keinen
+ * Stacktrace.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+public class UngueltigeAnzahlException extends IllegalArgumentException {
+
+    /**
+     * Erzeugt die Ausnahme für eine Eingabe.
+     *
+     * @param text Die ungültige Eingabe.
+     */
+    public UngueltigeAnzahlException(final String text) {
+        super("Ungültige Anzahl: " + text);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Bearbeitet die Anfragen auf virtuellen Threads (<code>spring.threads.virtual.enabled=true</code>).
+ *
+ * <p>Tomcat bearbeitet jede Anfrage dann auf einem eigenen virtuellen Thread statt im Pool von
+ * <code>server.tomcat.threads.max</code> Plattform-Threads. Blockiert eine Abfrage, etwa das JPA-Backend auf H2, wird
+ * nur der virtuelle Thread geparkt. Dasselbe gilt für die asynchron geschriebenen Antworten (<code>/feiertage</code>
+ * als NDJSON, <code>/feiertage.ics</code> und <code>/feiertag/stapel</code>), die sonst im Task-Executor von Spring
+ * laufen. Der Name der Einstellung ist der von Spring Boot ab 3.2, sodass sie nach einem Update unverändert gilt.
+ * </p>
+ *
+ * <p>Virtuelle Threads gibt es ab Java 21. Da das Projekt für Java 16 übersetzt wird, wird der Executor über
+ * Reflection erzeugt; auf älteren Laufzeitumgebungen bleibt es mit einer Warnung beim Thread-Pool. Die Tests dazu
+ * laufen mit dem Profil <code>java21</code>.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtuelleThreads implements WebMvcConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(VirtuelleThreads.class);
+
+    private final ExecutorService executor = erzeugeExecutor();
+
+    /**
+     * Erzeugt einen Executor, der jede Aufgabe auf einem neuen virtuellen Thread ausführt.
+     *
+     * @return Der Executor oder null, wenn die Laufzeitumgebung keine virtuellen Threads kennt.
+     */
+    static ExecutorService erzeugeExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtuelle Threads brauchen Java 21, gefunden {}; Anfragen laufen weiter im Thread-Pool",
+                Runtime.version());
+            return null;
+        }
+    }
+
+    /**
+     * Liefert den Executor.
+     *
+     * @return Der Executor oder null, wenn die Laufzeitumgebung keine virtuellen Threads kennt.
+     */
+    ExecutorService executor() {
+        return executor;
+    }
+
+    /**
+     * Setzt den Executor von Tomcat.
+     *
+     * @return Die Anpassung des Protocol-Handlers.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtuelleThreadsTomcat() {
+        return protocolHandler -> {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+                log.info("Anfragen werden auf virtuellen Threads bearbeitet");
+            }
+        };
+    }
+
+    /**
+     * Setzt den Executor für asynchron geschriebene Antworten.
+     *
+     * @param configurer Die Konfiguration der asynchronen Anfragen.
+     */
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        if (executor != null) {
+            configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+
+/**
+ * Werktage stellt Funktionen zum Rechnen mit Werktagen bereit. Werktage sind alle Tage von Montag bis Freitag, die
+ * im jeweiligen Land kein Feiertag sind.
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+
+public interface Werktage {
+    /**
+     * Überprüft, ob ein gegebener Tag ein Werktag ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     * @return true, falls es sich um einen Werktag handelt.
+     */
+    boolean isWerktag(final LocalDate datum, final Land land);
+
+    /**
+     * Liefert den Tag, der eine gegebene Anzahl Werktage nach einem Datum liegt.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage. Bei 0 wird das Datum selbst geliefert.
+     * @param land   Das Land.
+     * @return Der gefundene Werktag.
+     */
+    LocalDate plusWerktage(final LocalDate datum, final int anzahl, final Land land);
+
+    /**
+     * Liefert den Tag, der eine gegebene Anzahl Werktage vor einem Datum liegt.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage. Bei 0 wird das Datum selbst geliefert.
+     * @param land   Das Land.
+     * @return Der gefundene Werktag.
+     */
+    LocalDate minusWerktage(final LocalDate datum, final int anzahl, final Land land);
+
+    /**
+     * Zählt die Werktage in einem Zeitraum.
+     *
+     * @param von  Das Anfangs-Datum, einschließlich.
+     * @param bis  Das End-Datum, einschließlich.
+     * @param land Das Land.
+     * @return Die Anzahl der Werktage, 0 falls das End-Datum vor dem Anfangs-Datum liegt.
+     */
+    int countWerktage(final LocalDate von, final LocalDate bis, final Land land);
+}
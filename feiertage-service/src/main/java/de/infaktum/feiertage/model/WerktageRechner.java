@@ -0,0 +1,328 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rechnet mit Werktagen auf Basis kumulierter Werktagszahlen.
+ *
+ * <p>Für jedes Land wird beim ersten Zugriff ein Array berechnet, das für jeden Tag des Bereichs
+ * <code>feiertage.werktage.von</code> bis <code>feiertage.werktage.bis</code> die Anzahl der Werktage seit dem
+ * Beginn des Bereichs enthält. Die Anzahl der Werktage zwischen zwei Tagen ist damit die Differenz zweier Einträge,
+ * die Addition von Werktagen eine binäre Suche in diesem Array statt eines Schritts pro Tag. Außerhalb des Bereichs
+ * wird aus den Feiertagen des Zeitraums bzw. Tag für Tag gerechnet.
+ * </p>
+ *
+ * @author Heiko Sippel
+ * @version 1.0
+ */
+@Component
+public class WerktageRechner implements Werktage {
+    private static final Logger log = LoggerFactory.getLogger(WerktageRechner.class);
+    private static final long ERSTER_TAG = LocalDate.of(Feiertage.ERSTES_JAHR, 1, 1).toEpochDay();
+    private static final long LETZTER_TAG = LocalDate.of(Feiertage.LETZTES_JAHR, 12, 31).toEpochDay();
+
+    private final Feiertage feiertage;
+    private final LocalDate erster;
+    private final LocalDate letzter;
+    private final long start;
+    private final Map<Land, int[]> tabellen = new ConcurrentHashMap<>();
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param feiertage Die Feiertage, aus denen die Werktage berechnet werden.
+     * @param vonJahr   Das erste Jahr der Tabellen.
+     * @param bisJahr   Das letzte Jahr der Tabellen.
+     */
+    public WerktageRechner(final Feiertage feiertage, @Value("${feiertage.werktage.von:1970}") final int vonJahr,
+                           @Value("${feiertage.werktage.bis:2100}") final int bisJahr) {
+        this.feiertage = feiertage;
+        this.erster = LocalDate.of(vonJahr, 1, 1);
+        this.letzter = LocalDate.of(bisJahr, 12, 31);
+        this.start = erster.toEpochDay();
+    }
+
+    /**
+     * Überprüft, ob ein Tag auf ein Wochenende fällt.
+     *
+     * @param epochTag Der Tag seit dem 1.1.1970.
+     *
+     * @return true, wenn der Tag ein Samstag oder Sonntag ist.
+     */
+    static boolean isWochenende(final long epochTag) {
+        // Der 1.1.1970 war ein Donnerstag, 0 steht für Montag
+        return Math.floorMod(epochTag + 3, 7) >= 5;
+    }
+
+    /**
+     * Zählt die Tage von Montag bis Freitag vor einem Tag, gerechnet ab dem Montag, 29.12.1969.
+     *
+     * @param epochTag Der Tag seit dem 1.1.1970, ausschließlich.
+     *
+     * @return Die Anzahl der Wochentage.
+     */
+    static long wochentageBis(final long epochTag) {
+        long tage = epochTag + 3;
+        return 5 * Math.floorDiv(tage, 7) + Math.min(Math.floorMod(tage, 7), 5);
+    }
+
+    /**
+     * Überprüft, ob ein gegebener Tag ein Werktag ist.
+     *
+     * @param datum Das Datum.
+     * @param land  Das Land.
+     *
+     * @return true, falls es sich um einen Werktag handelt.
+     */
+    @Override
+    public boolean isWerktag(final LocalDate datum, final Land land) {
+        long tag = datum.toEpochDay() - start;
+        int[] tabelle = tabelle(land);
+        if (tag >= 0 && tag < tabelle.length - 1) {
+            return tabelle[(int) tag + 1] != tabelle[(int) tag];
+        }
+        return !isWochenende(datum.toEpochDay()) && !feiertage.isFeiertag(datum, land);
+    }
+
+    /**
+     * Liefert den Tag, der eine gegebene Anzahl Werktage nach einem Datum liegt.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage.
+     * @param land   Das Land.
+     *
+     * @return Der gefundene Werktag.
+     */
+    @Override
+    public LocalDate plusWerktage(final LocalDate datum, final int anzahl, final Land land) {
+        return anzahl < 0 ? minus(datum, -(long) anzahl, land) : plus(datum, anzahl, land);
+    }
+
+    /**
+     * Liefert den Tag, der eine gegebene Anzahl Werktage vor einem Datum liegt.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage.
+     * @param land   Das Land.
+     *
+     * @return Der gefundene Werktag.
+     */
+    @Override
+    public LocalDate minusWerktage(final LocalDate datum, final int anzahl, final Land land) {
+        return anzahl < 0 ? plus(datum, -(long) anzahl, land) : minus(datum, anzahl, land);
+    }
+
+    /**
+     * Zählt Werktage vorwärts. Die Anzahl ist ein <code>long</code>, damit auch der Betrag von
+     * {@link Integer#MIN_VALUE} ohne Überlauf dargestellt wird.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage, nicht negativ.
+     * @param land   Das Land.
+     *
+     * @return Der gefundene Werktag.
+     */
+    private LocalDate plus(final LocalDate datum, final long anzahl, final Land land) {
+        if (anzahl == 0) {
+            return datum;
+        }
+        long tag = datum.toEpochDay() - start;
+        int[] tabelle = tabelle(land);
+        if (tag >= 0 && tag < tabelle.length - 1) {
+            long ziel = tabelle[(int) tag + 1] + anzahl;
+            if (ziel <= tabelle[tabelle.length - 1]) {
+                return LocalDate.ofEpochDay(start + untergrenze(tabelle, (int) ziel) - 1);
+            }
+        }
+        return schrittweise(datum, anzahl, 1, land);
+    }
+
+    /**
+     * Zählt Werktage rückwärts.
+     *
+     * @param datum  Das Datum.
+     * @param anzahl Die Anzahl der Werktage, nicht negativ.
+     * @param land   Das Land.
+     *
+     * @return Der gefundene Werktag.
+     */
+    private LocalDate minus(final LocalDate datum, final long anzahl, final Land land) {
+        if (anzahl == 0) {
+            return datum;
+        }
+        long tag = datum.toEpochDay() - start;
+        int[] tabelle = tabelle(land);
+        if (tag >= 0 && tag < tabelle.length - 1) {
+            long ziel = tabelle[(int) tag] - anzahl + 1;
+            if (ziel >= 1) {
+                return LocalDate.ofEpochDay(start + untergrenze(tabelle, (int) ziel) - 1);
+            }
+        }
+        return schrittweise(datum, anzahl, -1, land);
+    }
+
+    /**
+     * Zählt die Werktage in einem Zeitraum. Innerhalb des vorberechneten Bereichs ist das die Differenz zweier
+     * Tabelleneinträge.
+     *
+     * @param von  Das Anfangs-Datum, einschließlich.
+     * @param bis  Das End-Datum, einschließlich.
+     * @param land Das Land.
+     *
+     * @return Die Anzahl der Werktage.
+     */
+    @Override
+    public int countWerktage(final LocalDate von, final LocalDate bis, final Land land) {
+        if (bis.isBefore(von)) {
+            return 0;
+        }
+        long anfang = von.toEpochDay();
+        long ende = bis.toEpochDay() + 1;
+        int[] tabelle = tabelle(land);
+        long tabellenEnde = start + tabelle.length - 1;
+        long anzahl = 0;
+        if (anfang < start) {
+            anzahl += zaehle(anfang, Math.min(ende, start), land);
+        }
+        long innenAnfang = Math.max(anfang, start);
+        long innenEnde = Math.min(ende, tabellenEnde);
+        if (innenAnfang < innenEnde) {
+            anzahl += tabelle[(int) (innenEnde - start)] - tabelle[(int) (innenAnfang - start)];
+        }
+        if (ende > tabellenEnde) {
+            anzahl += zaehle(Math.max(anfang, tabellenEnde), ende, land);
+        }
+        return (int) anzahl;
+    }
+
+    /**
+     * Liefert die kumulierten Werktage eines Landes. Der Eintrag <code>i</code> enthält die Anzahl der Werktage in
+     * den ersten <code>i</code> Tagen des Bereichs.
+     *
+     * @param land Das Land.
+     *
+     * @return Die Tabelle des Landes.
+     */
+    private int[] tabelle(final Land land) {
+        return tabellen.computeIfAbsent(land, this::berechne);
+    }
+
+    /**
+     * Berechnet die kumulierten Werktage eines Landes.
+     *
+     * @param land Das Land.
+     *
+     * @return Die Tabelle des Landes.
+     */
+    private int[] berechne(final Land land) {
+        int tage = (int) (letzter.toEpochDay() - start + 1);
+        boolean[] feiertag = new boolean[tage];
+        for (FeiertagsDatum feiertagsDatum : feiertage.getFeiertage(erster, letzter, land)) {
+            feiertag[(int) (feiertagsDatum.getDatum().toEpochDay() - start)] = true;
+        }
+        int[] tabelle = new int[tage + 1];
+        for (int i = 0; i < tage; i++) {
+            boolean werktag = !feiertag[i] && !isWochenende(start + i);
+            tabelle[i + 1] = tabelle[i] + (werktag ? 1 : 0);
+        }
+        log.debug("Werktage für {} von {} bis {} berechnet", land, erster, letzter);
+        return tabelle;
+    }
+
+    /**
+     * Findet den kleinsten Index, an dem die Tabelle mindestens den gegebenen Wert erreicht.
+     *
+     * @param tabelle Die kumulierten Werktage.
+     * @param wert    Der gesuchte Wert.
+     *
+     * @return Der Index.
+     */
+    private static int untergrenze(final int[] tabelle, final int wert) {
+        int links = 0;
+        int rechts = tabelle.length - 1;
+        while (links < rechts) {
+            int mitte = (links + rechts) >>> 1;
+            if (tabelle[mitte] < wert) {
+                links = mitte + 1;
+            } else {
+                rechts = mitte;
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Zählt die Werktage außerhalb des vorberechneten Bereichs: alle Wochentage abzüglich der Feiertage, die nicht auf
+     * ein Wochenende fallen.
+     *
+     * @param anfang Der erste Tag seit dem 1.1.1970, einschließlich.
+     * @param ende   Der letzte Tag seit dem 1.1.1970, ausschließlich.
+     * @param land   Das Land.
+     *
+     * @return Die Anzahl der Werktage.
+     */
+    private long zaehle(final long anfang, final long ende, final Land land) {
+        long feiertageAnWochentagen = feiertage
+            .getFeiertage(LocalDate.ofEpochDay(anfang), LocalDate.ofEpochDay(ende - 1), land).stream()
+            .map(FeiertagsDatum::getDatum)
+            .distinct()
+            .filter(datum -> !isWochenende(datum.toEpochDay()))
+            .count();
+        return wochentageBis(ende) - wochentageBis(anfang) - feiertageAnWochentagen;
+    }
+
+    /**
+     * Zählt Werktage Tag für Tag ab. Wird außerhalb des vorberechneten Bereichs verwendet. Die Suche endet spätestens
+     * an den Grenzen {@link Feiertage#ERSTES_JAHR} und {@link Feiertage#LETZTES_JAHR}, außerhalb derer keine Feiertage
+     * bekannt sind.
+     *
+     * @param datum    Das Datum.
+     * @param anzahl   Die Anzahl der Werktage.
+     * @param richtung 1 für vorwärts, -1 für rückwärts.
+     * @param land     Das Land.
+     *
+     * @return Der gefundene Werktag.
+     *
+     * @throws UngueltigeAnzahlException Falls der Werktag außerhalb der bekannten Jahre läge.
+     */
+    private LocalDate schrittweise(final LocalDate datum, final long anzahl, final int richtung, final Land land) {
+        LocalDate tag = datum;
+        long rest = anzahl;
+        while (rest > 0) {
+            tag = tag.plusDays(richtung);
+            if (tag.toEpochDay() < ERSTER_TAG || tag.toEpochDay() > LETZTER_TAG) {
+                throw new UngueltigeAnzahlException((richtung > 0 ? "" : "-") + anzahl + " Werktage ab " + datum);
+            }
+            if (!isWochenende(tag.toEpochDay()) && !feiertage.isFeiertag(tag, land)) {
+                rest--;
+            }
+        }
+        return tag;
+    }
+}
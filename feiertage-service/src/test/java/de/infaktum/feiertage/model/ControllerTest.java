@@ -0,0 +1,288 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Tests für den REST-Controller der Anwendung.
+ */
+@SpringBootTest(properties = "feiertage.lazy=true")
+@AutoConfigureMockMvc
+class ControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Feiertag abfragen")
+    public void feiertag() throws Exception {
+        mockMvc.perform(abfrage("01.05.2022", "NW"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Tag der Arbeit"));
+    }
+
+    @Test
+    @DisplayName("Ungültiges Datum ergibt Status 400")
+    public void ungueltigesDatum() throws Exception {
+        mockMvc.perform(abfrage("31.02.2022", "NW"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fehler").value("Ungültiges Datum: 31.02.2022"));
+        mockMvc.perform(get("/feiertage").param("von", "2022-13-01").param("bis", "31.12.2022").param("land", "NW"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Unbekanntes Land ergibt Status 400")
+    public void unbekanntesLand() throws Exception {
+        mockMvc.perform(abfrage("01.05.2022", "XX"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fehler").value("Unbekanntes Land: XX"));
+        mockMvc.perform(get("/feiertag/alle").param("datum", "01.05.2022").param("land", "XX"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/feiertage").param("von", "01.01.2022").param("bis", "31.12.2022").param("land", "XX"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("JSON über zu viele Jahre ergibt Status 400")
+    public void zuVieleJahre() throws Exception {
+        mockMvc.perform(get("/feiertage").param("von", "01.01.2000").param("bis", "31.12.2099").param("land", "BY"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/feiertage").param("von", "01.01.2000").param("bis", "01.01.2100").param("land", "BY"))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+            .andExpect(jsonPath("$.fehler").value("Ungültige Anzahl: 101 Jahre von 2000-01-01 bis 2100-01-01"));
+    }
+
+    @Test
+    @DisplayName("ETag, 304 und Cache-Control")
+    public void etag() throws Exception {
+        String etag = mockMvc.perform(abfrage("01.05.2022", "nw"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, public"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(etag, mockMvc.perform(abfrage("2022-05-01", "NW"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+        mockMvc.perform(abfrage("01.05.2022", "NW").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(abfrage("01.05.2022", "NW").header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(abfrage("01.05.2022", "XX").header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(abfrage("31.02.2022", "NW").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isBadRequest());
+        long von = LocalDate.of(2022, 1, 1).toEpochDay();
+        long bis = LocalDate.of(2022, 12, 31).toEpochDay();
+        assertNotEquals(CacheSteuerung.etag("feiertage", von, bis, 1),
+            CacheSteuerung.etag("feiertage", von + 1, bis - 31, 1));
+    }
+
+    @Test
+    @DisplayName("NDJSON über mehrere Jahre, ein Feiertag je Zeile")
+    public void ndjson() throws Exception {
+        MockHttpServletRequestBuilder abfrage = get("/feiertage").param("von", "01.12.2021").param("bis", "31.01.2023")
+            .param("land", "NW").accept(MediaType.APPLICATION_NDJSON);
+        MvcResult gestartet = mockMvc.perform(abfrage)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String text = mockMvc.perform(asyncDispatch(gestartet))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        List<FeiertagsDatum> erwartet = new FeiertageIndex().getFeiertage(LocalDate.of(2021, 12, 1),
+            LocalDate.of(2023, 1, 31), Bundesland.nrw);
+        String[] zeilen = text.split("\n");
+        assertTrue(text.endsWith("\n"));
+        assertEquals(erwartet.size(), zeilen.length);
+        for (int i = 0; i < zeilen.length; i++) {
+            assertEquals(objectMapper.writeValueAsString(erwartet.get(i)), zeilen[i]);
+        }
+        assertEquals(LocalDate.of(2021, 12, 24), erwartet.get(0).getDatum());
+        assertEquals(LocalDate.of(2023, 1, 1), erwartet.get(erwartet.size() - 1).getDatum());
+    }
+
+    @Test
+    @DisplayName("Binärformat über Accept: application/octet-stream")
+    public void binaer() throws Exception {
+        byte[] alle = mockMvc.perform(binaerAbfrage(null))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+            .andReturn().getResponse().getContentAsByteArray();
+        List<FeiertageBinaer.Eintrag> eintraege = FeiertageBinaer.dekodiere(alle);
+        assertEquals(LocalDate.of(2022, 1, 1), eintraege.get(0).datum());
+        assertEquals(Bundesland.values().length, Integer.bitCount(eintraege.get(0).maske()));
+
+        byte[] bayern = mockMvc.perform(binaerAbfrage("by"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(FeiertageBinaer.dekodiere(bayern).stream().allMatch(e -> e.maske() == Bundesland.bayern.bit()));
+
+        mockMvc.perform(binaerAbfrage("XX"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Werktage mit extremer Anzahl oder unbekanntem Land ergeben Status 400")
+    public void werktage() throws Exception {
+        mockMvc.perform(werktageAbfrage("plus", 4, "NW"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("\"2022-04-22\""));
+        mockMvc.perform(werktageAbfrage("plus", Integer.MIN_VALUE, "NW"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fehler").value("Ungültige Anzahl: " + Integer.MIN_VALUE));
+        mockMvc.perform(werktageAbfrage("minus", Integer.MIN_VALUE, "NW"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(werktageAbfrage("plus", Integer.MAX_VALUE, "NW"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(werktageAbfrage("minus", 2_000_000_000, "NW"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(werktageAbfrage("plus", 4, "XX"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fehler").value("Unbekanntes Land: XX"));
+        MockHttpServletRequestBuilder anzahl = get("/werktage/anzahl").param("von", "01.01.2022")
+            .param("bis", "31.12.2022").param("land", "XX");
+        mockMvc.perform(anzahl)
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("iCalendar mit bedingtem GET und begrenztem Zeitraum")
+    public void ics() throws Exception {
+        MvcResult gestartet = mockMvc.perform(icsAbfrage("by", 2022, 2023))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String etag = mockMvc.perform(asyncDispatch(gestartet))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/calendar;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, public"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        mockMvc.perform(icsAbfrage("BY", 2022, 2023).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(icsAbfrage("BY", 2022, 2024).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(request().asyncStarted());
+        mockMvc.perform(icsAbfrage("BY", 2000, 2000 + Application.Controller.MAX_ICS_JAHRE))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(icsAbfrage("BY", Feiertage.ERSTES_JAHR, Feiertage.LETZTES_JAHR))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(icsAbfrage("XX", 2022, 2022))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Reaktive Endpunkte prüfen Parameter und tragen ETags")
+    public void reaktiv() throws Exception {
+        MvcResult gestartet = mockMvc.perform(get("/reaktiv/feiertag").param("datum", "03.10.2022").param("land", "by"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String etag = mockMvc.perform(asyncDispatch(gestartet))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Tag der deutschen Einheit"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, public"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        MockHttpServletRequestBuilder bedingt = get("/reaktiv/feiertag").param("datum", "2022-10-03")
+            .param("land", "BY").header(HttpHeaders.IF_NONE_MATCH, etag);
+        mockMvc.perform(bedingt)
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/reaktiv/feiertag").param("datum", "03.10.2022").param("land", "XX"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.fehler").value("Unbekanntes Land: XX"));
+        mockMvc.perform(get("/reaktiv/feiertage").param("von", "01.01.2022").param("bis", "32.12.2022")
+                .param("land", "BY"))
+            .andExpect(status().isBadRequest());
+
+        int anzahl = new FeiertageIndex().getFeiertage(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31),
+            Bundesland.bayern).size();
+        MvcResult json = mockMvc.perform(reaktivAbfrage(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(json))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(anzahl));
+        MvcResult ndjson = mockMvc.perform(reaktivAbfrage(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        assertEquals(anzahl, ndjson.getResponse().getContentAsString().split("\n").length);
+    }
+
+    private static MockHttpServletRequestBuilder abfrage(final String datum, final String land) {
+        return get("/feiertag").param("datum", datum).param("land", land);
+    }
+
+    private static MockHttpServletRequestBuilder binaerAbfrage(final String land) {
+        MockHttpServletRequestBuilder abfrage = get("/feiertage").param("von", "01.01.2022").param("bis", "31.12.2022")
+            .accept(MediaType.APPLICATION_OCTET_STREAM);
+        return land == null ? abfrage : abfrage.param("land", land);
+    }
+
+    private static MockHttpServletRequestBuilder werktageAbfrage(final String richtung, final int anzahl,
+                                                                 final String land) {
+        return get("/werktage/" + richtung).param("datum", "14.04.2022").param("anzahl", Integer.toString(anzahl))
+            .param("land", land);
+    }
+
+    private static MockHttpServletRequestBuilder icsAbfrage(final String land, final int von, final int bis) {
+        return get("/feiertage.ics").param("land", land).param("von", Integer.toString(von))
+            .param("bis", Integer.toString(bis));
+    }
+
+    private static MockHttpServletRequestBuilder reaktivAbfrage(final MediaType medientyp) {
+        return get("/reaktiv/feiertage").param("von", "01.01.2022").param("bis", "31.12.2022").param("land", "BY")
+            .accept(medientyp);
+    }
+}
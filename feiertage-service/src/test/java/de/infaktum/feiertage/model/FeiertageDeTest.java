@@ -38,7 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 /**
  * Tests für die Klasse Feiertage.
  */
-@SpringBootTest
+@SpringBootTest(properties = "feiertage.backend=jpa")
 class FeiertageDeTest {
     protected final static DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
     private final static Logger log = LoggerFactory.getLogger(FeiertageDeTest.class);
@@ -87,4 +87,14 @@ class FeiertageDeTest {
         assertTrue( gefunden.isWochenende());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Christi Himmelfahrt und Tag der Arbeit fallen 2008 zusammen")
+    public void zusammenfallend() {
+        LocalDate datum = LocalDate.of(2008, Month.MAY, 1);
+        List<FeiertagsDatum> gefunden = feiertage.getFeiertageAm(datum, Bundesland.nrw);
+        assertEquals(List.of(new FeiertagsDatum(Feiertag.maifeiertag, 2008),
+            new FeiertagsDatum(Feiertag.christi_himmelfahrt, 2008)), gefunden);
+        assertEquals(Feiertag.maifeiertag, feiertage.getFeiertag(datum, Bundesland.nrw).getFeiertag());
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse FeiertageMetriken.
+ */
+class FeiertageMetrikenTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Ein zweites Backend, dessen Aufrufe getrennt gemessen werden.
+     */
+    static class ZweitesBackend extends FeiertageIndex {
+    }
+
+    private Feiertage gemessen(final Feiertage backend) {
+        return new GemesseneFeiertage(backend, registry);
+    }
+
+    private long aufrufe(final String backend, final String methode) {
+        return registry.get("feiertage.abfrage").tag("backend", backend).tag("methode", methode).timer().count();
+    }
+
+    @Test
+    @DisplayName("Listen-Abfragen werden je Backend und Methode gemessen")
+    public void messe() {
+        Feiertage index = gemessen(new FeiertageIndex(true));
+        Feiertage zweites = gemessen(new ZweitesBackend());
+        LocalDate tag = LocalDate.of(2022, 10, 3);
+        index.getFeiertage(tag, tag, Bundesland.bayern);
+        zweites.getFeiertage(tag, tag, Bundesland.bayern);
+        zweites.getFeiertageAm(tag, Bundesland.bayern);
+        assertEquals(1, aufrufe("FeiertageIndex", "getFeiertage"));
+        assertEquals(1, aufrufe("ZweitesBackend", "getFeiertage"));
+        assertEquals(1, aufrufe("ZweitesBackend", "getFeiertageAm"));
+    }
+
+    @Test
+    @DisplayName("Einzelabfragen werden nicht gemessen")
+    public void einzelabfragen() {
+        Feiertage index = gemessen(new FeiertageIndex(true));
+        LocalDate tag = LocalDate.of(2022, 10, 3);
+        assertTrue(index.isFeiertag(tag, Bundesland.bayern));
+        assertTrue(index.isFeiertag(tag.toEpochDay(), Bundesland.bayern.schluessel()));
+        assertNotNull(index.getFeiertag(tag, Bundesland.bayern));
+        index.feiertagsMaske(tag.toEpochDay());
+        assertEquals(0, aufrufe("FeiertageIndex", "getFeiertage"));
+        assertNull(registry.find("feiertage.abfrage").tag("methode", "isFeiertag").timer());
+        assertNull(registry.find("feiertage.abfrage").tag("methode", "getFeiertag").timer());
+    }
+
+    @Test
+    @DisplayName("Zähler der Oster-Tabelle und der Caches")
+    public void zaehler() throws IOException {
+        FeiertageIndex feiertage = new FeiertageIndex(true);
+        JsonJahresCache jsonJahresCache = new JsonJahresCache(feiertage,
+            new ObjectMapper().registerModule(new JavaTimeModule()), 4);
+        IcsJahresCache icsJahresCache = new IcsJahresCache(feiertage, 4);
+        new FeiertageMetriken.Zaehler(jsonJahresCache, icsJahresCache).bindTo(registry);
+
+        jsonJahresCache.json(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), Bundesland.hessen);
+        jsonJahresCache.json(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), Bundesland.hessen);
+        icsJahresCache.schreibe(2022, 2023, Bundesland.hessen, new ByteArrayOutputStream());
+
+        assertEquals(1, registry.get("feiertage.json.cache").tag("ergebnis", "treffer").functionCounter().count());
+        assertEquals(1, registry.get("feiertage.json.cache").tag("ergebnis", "fehlgriff").functionCounter().count());
+        assertEquals(1, registry.get("feiertage.json.cache.groesse").gauge().value());
+        assertEquals(0, registry.get("feiertage.ics.cache").tag("ergebnis", "treffer").functionCounter().count());
+        assertEquals(2, registry.get("feiertage.ics.cache").tag("ergebnis", "fehlgriff").functionCounter().count());
+        assertEquals(2, registry.get("feiertage.ics.cache.groesse").gauge().value());
+        assertNotNull(registry.get("feiertage.ostern").tag("ergebnis", "tabelle").functionCounter());
+        assertNotNull(registry.get("feiertage.ostern").tag("ergebnis", "berechnet").functionCounter());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse IcsJahresCache.
+ */
+class IcsJahresCacheTest {
+    private final FeiertageIndex feiertage = new FeiertageIndex();
+    private final IcsJahresCache cache = new IcsJahresCache(feiertage, 2);
+
+    private byte[] kalender(final int von, final int bis, final Land land) throws IOException {
+        ByteArrayOutputStream aus = new ByteArrayOutputStream();
+        cache.schreibe(von, bis, land, aus);
+        return aus.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Ein Kalender nach RFC 5545")
+    public void kalender() throws IOException {
+        String ics = new String(kalender(2022, 2022, Bundesland.bayern), StandardCharsets.UTF_8);
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(ics.contains("BEGIN:VEVENT\r\nUID:20220616-fronleichnam-BY@feiertage.infaktum.de\r\n"));
+        String stand = LocalDate.of(2022, 1, 1).plusDays(Feiertag.REGELVERSION - 1)
+            .format(DateTimeFormatter.BASIC_ISO_DATE);
+        assertTrue(ics.contains("DTSTAMP:" + stand + "T000000Z\r\nSEQUENCE:" + Feiertag.REGELVERSION + "\r\n"));
+        assertTrue(ics.contains("DTSTART;VALUE=DATE:20220616\r\nDTEND;VALUE=DATE:20220617\r\n"
+            + "SUMMARY:Fronleichnam\r\n"));
+        assertEquals(feiertage.getFeiertage("01.01.2022", "31.12.2022", Bundesland.bayern).size(),
+            ics.split("BEGIN:VEVENT", -1).length - 1);
+        for (String zeile : ics.split("\r\n")) {
+            assertTrue(zeile.getBytes(StandardCharsets.UTF_8).length <= 75, zeile);
+            assertTrue(!zeile.contains("\n"), zeile);
+        }
+    }
+
+    @Test
+    @DisplayName("Wiederholte Abrufe liefern dieselben Bytes aus dem Cache")
+    public void wiederholt() throws IOException {
+        byte[] erster = kalender(2023, 2024, Bundesland.berlin);
+        assertArrayEquals(erster, kalender(2023, 2024, Bundesland.berlin));
+        assertEquals(2, cache.fehlgriffe());
+        assertEquals(2, cache.treffer());
+        kalender(2025, 2025, Bundesland.berlin);
+        assertEquals(2, cache.groesse());
+    }
+
+    @Test
+    @DisplayName("Bereiche über mehr Jahre als der Cache verdrängen ihn nicht")
+    public void verdraengung() throws IOException {
+        kalender(2023, 2023, Bundesland.berlin);
+        byte[] lang = kalender(2020, 2024, Bundesland.berlin);
+        assertEquals(1, cache.groesse());
+        assertEquals(1, cache.treffer());
+        assertArrayEquals(lang, kalender(2020, 2024, Bundesland.berlin));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse JsonJahresCache.
+ */
+class JsonJahresCacheTest {
+    private final FeiertageIndex feiertage = new FeiertageIndex();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JsonJahresCache cache = new JsonJahresCache(feiertage, objectMapper, 2);
+
+    private void pruefe(final LocalDate von, final LocalDate bis) throws JsonProcessingException {
+        String erwartet = objectMapper.writeValueAsString(feiertage.getFeiertage(von, bis, Bundesland.hessen));
+        assertEquals(erwartet, new String(cache.json(von, bis, Bundesland.hessen), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Ein ganzes Jahr wird aus dem Cache geliefert")
+    public void ganzesJahr() throws JsonProcessingException {
+        pruefe(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+        assertSame(cache.json(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), Bundesland.hessen),
+            cache.json(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), Bundesland.hessen));
+    }
+
+    @Test
+    @DisplayName("Beliebige Zeiträume werden zusammengesetzt")
+    public void zeitraum() throws JsonProcessingException {
+        pruefe(LocalDate.of(2019, 4, 19), LocalDate.of(2023, 6, 8));
+        pruefe(LocalDate.of(2022, 12, 27), LocalDate.of(2022, 12, 30));
+    }
+
+    @Test
+    @DisplayName("Jahre außerhalb des bekannten Bereichs werden nicht eingetragen")
+    public void bereich() throws JsonProcessingException {
+        assertEquals("[]", new String(cache.json(LocalDate.of(0, 1, 1), LocalDate.of(0, 12, 31), Bundesland.hessen),
+            StandardCharsets.UTF_8));
+        assertEquals(0, cache.groesse());
+        pruefe(LocalDate.of(1500, 1, 1), LocalDate.of(1583, 12, 31));
+        assertEquals(1, cache.groesse());
+    }
+
+    @Test
+    @DisplayName("Zeiträume mit mehr Jahren als Einträgen verdrängen den Cache nicht")
+    public void verdraengung() throws JsonProcessingException {
+        pruefe(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31));
+        pruefe(LocalDate.of(2019, 4, 19), LocalDate.of(2023, 6, 8));
+        assertEquals(1, cache.groesse());
+        assertEquals(1, cache.treffer());
+        assertEquals(5, cache.fehlgriffe());
+    }
+
+    @Test
+    @DisplayName("Ohne Land wird der Cache nicht verwendet")
+    public void ohneLand() {
+        assertThrows(NullPointerException.class,
+            () -> cache.json(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), null));
+        assertEquals(0, cache.groesse());
+        assertEquals(0, cache.fehlgriffe());
+    }
+}
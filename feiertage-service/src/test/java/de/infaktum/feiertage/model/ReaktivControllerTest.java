@@ -0,0 +1,75 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse ReaktivController.
+ */
+class ReaktivControllerTest {
+    private final FeiertageIndex feiertage = new FeiertageIndex();
+    private final CacheSteuerung cacheSteuerung = new CacheSteuerung(Duration.ofDays(30));
+
+    @Test
+    @DisplayName("Nicht blockierende Backends antworten direkt")
+    public void direkt() {
+        ReaktivController controller = new ReaktivController(feiertage, cacheSteuerung, 2, 10);
+        assertEquals(feiertage.getFeiertag(LocalDate.of(2022, 10, 3), Bundesland.bayern),
+            controller.feiertag("03.10.2022", "BY", null).getBody().block());
+        assertNull(controller.feiertag("2022-10-04", "BY", null).getBody().block());
+        assertEquals(feiertage.getFeiertage(LocalDate.of(2020, 3, 1), LocalDate.of(2023, 4, 30), Bundesland.berlin),
+            controller.feiertage("01.03.2020", "30.04.2023", "BE", null).getBody().collectList().block());
+        assertTrue(controller.feiertage("01.01.2023", "31.12.2022", "BE", null).getBody().collectList().block()
+            .isEmpty());
+        controller.beende();
+    }
+
+    @Test
+    @DisplayName("Blockierende Backends werden auf dem Scheduler abgefragt")
+    public void blockierend() {
+        FeiertageIndex blockierend = new FeiertageIndex() {
+            @Override
+            public List<FeiertagsDatum> getFeiertage(final LocalDate von, final LocalDate bis, final Land land) {
+                assertTrue(Thread.currentThread().getName().startsWith("feiertage-reaktiv"));
+                return super.getFeiertage(von, bis, land);
+            }
+
+            @Override
+            public boolean isBlockierend() {
+                return true;
+            }
+        };
+        ReaktivController controller = new ReaktivController(blockierend, cacheSteuerung, 2, 10);
+        assertEquals(feiertage.getFeiertage(LocalDate.of(2021, 1, 1), LocalDate.of(2022, 12, 31), Bundesland.hessen),
+            controller.feiertage("01.01.2021", "31.12.2022", "HE", null).getBody().collectList().block());
+        controller.beende();
+    }
+}
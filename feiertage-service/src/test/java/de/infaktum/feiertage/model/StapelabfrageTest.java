@@ -0,0 +1,64 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse Stapelabfrage.
+ */
+class StapelabfrageTest {
+    private final Stapelabfrage stapelabfrage = new Stapelabfrage(new FeiertageIndex(), new ObjectMapper());
+
+    private String verarbeite(final String abfragen, final boolean ndjson) throws IOException {
+        ByteArrayOutputStream aus = new ByteArrayOutputStream();
+        stapelabfrage.verarbeite(new ByteArrayInputStream(abfragen.getBytes(StandardCharsets.UTF_8)), aus, ndjson);
+        return aus.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("JSON-Array in derselben Reihenfolge")
+    public void array() throws IOException {
+        String ergebnis = verarbeite("[{\"datum\":\"01.05.2022\",\"land\":\"NW\"},"
+            + "{\"datum\":\"02.05.2022\",\"land\":\"by\"}]", false);
+        assertEquals("[{\"datum\":\"01.05.2022\",\"land\":\"NW\",\"feiertag\":true,\"name\":\"Tag der Arbeit\"},"
+            + "{\"datum\":\"02.05.2022\",\"land\":\"by\",\"feiertag\":false}]", ergebnis);
+    }
+
+    @Test
+    @DisplayName("NDJSON mit fehlerhaften Einträgen")
+    public void ndjson() throws IOException {
+        String ergebnis = verarbeite("{\"datum\":\"01.11.2022\",\"land\":\"BE\"}\n"
+            + "{\"datum\":\"32.02.2022\",\"land\":\"BE\"}\n"
+            + "{\"datum\":\"01.11.2022\",\"land\":\"XX\"}\n", true);
+        assertEquals("{\"datum\":\"01.11.2022\",\"land\":\"BE\",\"feiertag\":false}\n"
+            + "{\"datum\":\"32.02.2022\",\"land\":\"BE\",\"fehler\":\"Ungültiges Datum\"}\n"
+            + "{\"datum\":\"01.11.2022\",\"land\":\"XX\",\"fehler\":\"Unbekanntes Land\"}\n", ergebnis);
+    }
+}
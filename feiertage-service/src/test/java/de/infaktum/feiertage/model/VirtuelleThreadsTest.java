@@ -0,0 +1,85 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Tests für die Klasse VirtuelleThreads. Ab Java 21 (Profil <code>java21</code>) wird der Executor mit virtuellen
+ * Threads geprüft, darunter der Rückfall auf den Thread-Pool.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"feiertage.lazy=true", "spring.threads.virtual.enabled=true"})
+class VirtuelleThreadsTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private VirtuelleThreads virtuelleThreads;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private Executor tomcatExecutor() {
+        return ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector().getProtocolHandler()
+            .getExecutor();
+    }
+
+    private static boolean isVirtuell(final Thread thread) throws ReflectiveOperationException {
+        return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    @Test
+    @DisplayName("Ab Java 21 bearbeitet Tomcat die Anfragen auf virtuellen Threads")
+    public void virtuell() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtuelle Threads brauchen Java 21");
+        assertSame(virtuelleThreads.executor(), tomcatExecutor());
+        assertTrue(virtuelleThreads.executor().submit(() -> isVirtuell(Thread.currentThread())).get());
+        assertEquals(HttpStatus.OK, rest.getForEntity("/feiertag?datum=25.12.2022&land=NW", String.class)
+            .getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Vor Java 21 bleibt es beim Thread-Pool")
+    public void threadPool() {
+        assumeTrue(Runtime.version().feature() < 21, "Nur vor Java 21");
+        assertNull(virtuelleThreads.executor());
+        assertNotNull(tomcatExecutor());
+        assertEquals(HttpStatus.OK, rest.getForEntity("/feiertag?datum=25.12.2022&land=NW", String.class)
+            .getStatusCode());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+Copyright 2022 Heiko Sippel
+Permission is hereby granted, free of charge, to any person obtaining a
+copy of this software and associated documentation files (the "Software"),
+to deal in the Software without restriction, including without limitation the
+rights to use, copy, modify, merge, publish, distribute, sublicense,
+and/or sell copies of the Software, and to permit persons to whom the Software
+is furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package de.infaktum.feiertage.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests für die Klasse WerktageRechner.
+ */
+class WerktageRechnerTest {
+    private static final FeiertageIndex feiertage = new FeiertageIndex();
+    private final WerktageRechner werktage = new WerktageRechner(feiertage, 2000, 2030);
+
+    @Test
+    @DisplayName("Wochenenden und Feiertage sind keine Werktage")
+    public void isWerktag() {
+        assertTrue(werktage.isWerktag(LocalDate.of(2022, 4, 14), Bundesland.nrw));
+        assertFalse(werktage.isWerktag(LocalDate.of(2022, 4, 15), Bundesland.nrw));
+        assertFalse(werktage.isWerktag(LocalDate.of(2022, 4, 16), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Über Ostern hinweg")
+    public void plusWerktage() {
+        LocalDate gruendonnerstag = LocalDate.of(2022, 4, 14);
+        assertEquals(LocalDate.of(2022, 4, 19), werktage.plusWerktage(gruendonnerstag, 1, Bundesland.nrw));
+        assertEquals(LocalDate.of(2022, 4, 22), werktage.plusWerktage(gruendonnerstag, 4, Bundesland.nrw));
+        assertEquals(gruendonnerstag, werktage.plusWerktage(gruendonnerstag, 0, Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Rückwärts über Ostern hinweg")
+    public void minusWerktage() {
+        LocalDate dienstag = LocalDate.of(2022, 4, 19);
+        assertEquals(LocalDate.of(2022, 4, 14), werktage.minusWerktage(dienstag, 1, Bundesland.nrw));
+        assertEquals(LocalDate.of(2022, 4, 11), werktage.minusWerktage(dienstag, 4, Bundesland.nrw));
+        assertEquals(LocalDate.of(2022, 4, 14), werktage.plusWerktage(dienstag, -1, Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Regionale Feiertage werden berücksichtigt")
+    public void regional() {
+        LocalDate mittwoch = LocalDate.of(2022, 6, 15);
+        assertEquals(LocalDate.of(2022, 6, 17), werktage.plusWerktage(mittwoch, 1, Bundesland.bayern));
+        assertEquals(LocalDate.of(2022, 6, 16), werktage.plusWerktage(mittwoch, 1, Bundesland.berlin));
+    }
+
+    @Test
+    @DisplayName("Tabelle und schrittweise Berechnung stimmen überein")
+    public void ausserhalbDerTabelle() {
+        WerktageRechner klein = new WerktageRechner(feiertage, 2022, 2022);
+        LocalDate datum = LocalDate.of(2022, 12, 1);
+        for (int anzahl = 0; anzahl < 40; anzahl++) {
+            assertEquals(werktage.plusWerktage(datum, anzahl, Bundesland.sachsen),
+                klein.plusWerktage(datum, anzahl, Bundesland.sachsen));
+            assertEquals(werktage.minusWerktage(datum.plusYears(1), anzahl, Bundesland.sachsen),
+                klein.minusWerktage(datum.plusYears(1), anzahl, Bundesland.sachsen));
+        }
+    }
+
+    @Test
+    @DisplayName("Werktage im Jahr 2022 in NRW")
+    public void countWerktage() {
+        LocalDate von = LocalDate.of(2022, 1, 1);
+        LocalDate bis = LocalDate.of(2022, 12, 31);
+        assertEquals(260 - 8, werktage.countWerktage(von, bis, Bundesland.nrw));
+        assertEquals(0, werktage.countWerktage(bis, von, Bundesland.nrw));
+        assertEquals(1, werktage.countWerktage(LocalDate.of(2022, 4, 14), LocalDate.of(2022, 4, 18), Bundesland.nrw));
+    }
+
+    @Test
+    @DisplayName("Zählung über Jahrzehnte auch außerhalb der Tabelle")
+    public void countWerktageJahrzehnte() {
+        WerktageRechner klein = new WerktageRechner(feiertage, 2010, 2012);
+        LocalDate von = LocalDate.of(1995, 3, 7);
+        LocalDate bis = LocalDate.of(2029, 11, 23);
+        int erwartet = 0;
+        for (LocalDate tag = von; !tag.isAfter(bis); tag = tag.plusDays(1)) {
+            if (werktage.isWerktag(tag, Bundesland.bayern)) {
+                erwartet++;
+            }
+        }
+        assertEquals(erwartet, klein.countWerktage(von, bis, Bundesland.bayern));
+    }
+
+    @Test
+    @DisplayName("Extreme Anzahlen enden an den Grenzen der bekannten Jahre")
+    public void grenzen() {
+        LocalDate datum = LocalDate.of(2022, 4, 14);
+        assertThrows(UngueltigeAnzahlException.class,
+            () -> werktage.plusWerktage(datum, Integer.MIN_VALUE, Bundesland.nrw));
+        assertThrows(UngueltigeAnzahlException.class,
+            () -> werktage.minusWerktage(datum, Integer.MIN_VALUE, Bundesland.nrw));
+        assertThrows(UngueltigeAnzahlException.class,
+            () -> werktage.plusWerktage(datum, Integer.MAX_VALUE, Bundesland.nrw));
+        assertThrows(UngueltigeAnzahlException.class,
+            () -> werktage.minusWerktage(datum, Integer.MAX_VALUE, Bundesland.nrw));
+        assertEquals(LocalDate.of(9999, 12, 30),
+            werktage.plusWerktage(LocalDate.of(9999, 12, 29), 1, Bundesland.nrw));
+        assertThrows(UngueltigeAnzahlException.class,
+            () -> werktage.plusWerktage(LocalDate.of(9999, 12, 30), 1, Bundesland.nrw));
+    }
+}